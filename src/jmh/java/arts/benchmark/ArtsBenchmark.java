@@ -0,0 +1,106 @@
+package arts.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arts.Arts;
+
+/**
+ * Represents the end-to-end benchmarks for {@link Arts#getResponse(String)}, from parsing the input
+ * to persisting the change, against a task file of the given size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArtsBenchmark {
+    @Param({"1000", "100000"})
+    private int taskCount;
+
+    @Param({"false", "true"})
+    private boolean isJournaled;
+
+    private Path directory;
+    private Arts arts;
+    private String deleteLast;
+
+    /**
+     * Writes a synthetic task file and starts the application on it.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("arts-benchmark");
+        Path file = directory.resolve("tasks.txt");
+        TaskFileGenerator.write(file, taskCount, TaskFileGenerator.DEFAULT_SEED);
+        arts = new Arts(file.toString(), isJournaled);
+        deleteLast = "delete " + (taskCount + 1);
+    }
+
+    /**
+     * Stops the application and deletes the files it wrote.
+     *
+     * @throws IOException If a file cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        arts.getResponse("bye");
+        try (var paths = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Measures a find command.
+     *
+     * @return The response.
+     */
+    @Benchmark
+    public String find() {
+        return arts.getResponse("find report");
+    }
+
+    /**
+     * Measures a mark and an unmark of the first task, each persisted as the application normally does.
+     *
+     * @return The last response.
+     */
+    @Benchmark
+    public String markAndUnmark() {
+        arts.getResponse("mark 1");
+        return arts.getResponse("unmark 1");
+    }
+
+    /**
+     * Measures adding a todo and deleting it again, each persisted as the application normally does.
+     *
+     * @return The last response.
+     */
+    @Benchmark
+    public String addAndDelete() {
+        arts.getResponse("todo benchmark task");
+        return arts.getResponse(deleteLast);
+    }
+}
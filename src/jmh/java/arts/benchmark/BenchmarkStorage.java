@@ -0,0 +1,27 @@
+package arts.benchmark;
+
+import java.util.ArrayList;
+
+import arts.task.Task;
+import arts.util.Storage;
+
+/**
+ * Represents a storage that discards every save, so that command benchmarks measure the in-memory work
+ * of a command without the disk writes, which are measured separately by {@link StorageBenchmark}.
+ */
+public class BenchmarkStorage extends Storage {
+
+    /**
+     * Constructs a BenchmarkStorage. The path is never written to.
+     *
+     * @param filePath The path reported by the storage.
+     */
+    public BenchmarkStorage(String filePath) {
+        super(filePath);
+    }
+
+    @Override
+    public void save(ArrayList<Task> tasks) {
+        // Saves are discarded
+    }
+}
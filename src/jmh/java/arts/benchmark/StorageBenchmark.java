@@ -0,0 +1,95 @@
+package arts.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arts.ArtsException;
+import arts.task.Task;
+import arts.util.Storage;
+
+/**
+ * Represents the benchmarks for loading and saving a whole task file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    private Path directory;
+    private Storage loadStorage;
+    private Storage saveStorage;
+    private ArrayList<Task> tasks;
+
+    /**
+     * Writes a synthetic task file to load and generates the tasks to save.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("arts-storage-benchmark");
+        Path loadFile = directory.resolve("load.txt");
+        TaskFileGenerator.write(loadFile, taskCount, TaskFileGenerator.DEFAULT_SEED);
+        loadStorage = new Storage(loadFile.toString());
+        saveStorage = new Storage(directory.resolve("save.txt").toString());
+        tasks = TaskFileGenerator.generate(taskCount, TaskFileGenerator.DEFAULT_SEED);
+    }
+
+    /**
+     * Deletes the files written by the benchmark.
+     *
+     * @throws IOException If a file cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var paths = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Measures loading the whole task file.
+     *
+     * @return The loaded tasks.
+     * @throws ArtsException If the file cannot be loaded.
+     */
+    @Benchmark
+    public ArrayList<Task> load() throws ArtsException {
+        return loadStorage.load();
+    }
+
+    /**
+     * Measures saving the whole task list durably.
+     *
+     * @throws ArtsException If the file cannot be saved.
+     */
+    @Benchmark
+    public void save() throws ArtsException {
+        saveStorage.save(tasks);
+    }
+}
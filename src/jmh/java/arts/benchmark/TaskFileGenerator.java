@@ -0,0 +1,108 @@
+package arts.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Random;
+
+import arts.task.Deadline;
+import arts.task.Event;
+import arts.task.Task;
+import arts.task.Todo;
+
+/**
+ * Represents a generator of synthetic tasks and task files for benchmarks.
+ * Tasks are a fixed mix of todos, deadlines and events with descriptions drawn from a small vocabulary,
+ * so searches hit a realistic share of tasks. The same seed always produces the same tasks.
+ */
+public class TaskFileGenerator {
+    /** The seed used by the benchmarks, so every run measures the same data. */
+    public static final long DEFAULT_SEED = 42;
+
+    private static final String[] VERBS = {
+        "read", "write", "submit", "review", "plan", "buy", "call", "fix", "prepare", "attend"
+    };
+    private static final String[] NOUNS = {
+        "book", "report", "essay", "groceries", "meeting", "project", "lecture", "notes", "tutorial", "slides"
+    };
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int MINUTES_IN_TWO_YEARS = 2 * 365 * 24 * 60;
+    private static final int MAX_EVENT_MINUTES = 3 * 24 * 60;
+
+    private TaskFileGenerator() {
+    }
+
+    /**
+     * Generates the given number of tasks, roughly half todos and a quarter each deadlines and events,
+     * with about a third of them marked as done.
+     *
+     * @param count The number of tasks to generate.
+     * @param seed The seed for the random choices.
+     * @return The generated tasks.
+     */
+    public static ArrayList<Task> generate(int count, long seed) {
+        assert count >= 0 : "Count cannot be negative";
+        Random random = new Random(seed);
+        ArrayList<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String description = VERBS[random.nextInt(VERBS.length)] + " " + NOUNS[random.nextInt(NOUNS.length)]
+                    + " " + i;
+            LocalDateTime time = EPOCH.plusMinutes(random.nextInt(MINUTES_IN_TWO_YEARS));
+            Task task;
+            int kind = random.nextInt(4);
+            if (kind < 2) {
+                task = new Todo(description);
+            } else if (kind == 2) {
+                task = new Deadline(description, time);
+            } else {
+                task = new Event(description, time, time.plusMinutes(random.nextInt(MAX_EVENT_MINUTES)));
+            }
+            if (random.nextInt(3) == 0) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Writes the given number of generated tasks to a task file, replacing any existing file.
+     *
+     * @param path The path of the file to write.
+     * @param count The number of tasks to generate.
+     * @param seed The seed for the random choices.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Path path, int count, long seed) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (Task task : generate(count, seed)) {
+                writer.write(task.toFileFormat());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Writes a synthetic task file, for example to try the application against a large list.
+     * Usage: {@code TaskFileGenerator <path> <count> [seed]}.
+     *
+     * @param args The file path, the number of tasks and an optional seed.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TaskFileGenerator <path> <count> [seed]");
+            return;
+        }
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        write(Path.of(args[0]), Integer.parseInt(args[1]), seed);
+    }
+}
@@ -0,0 +1,144 @@
+package arts.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arts.ArtsException;
+import arts.command.FindCommand;
+import arts.command.SortDeadlinesCommand;
+import arts.command.SortEventsCommand;
+import arts.enums.CommandType;
+import arts.task.Task;
+import arts.task.TaskList;
+import arts.task.Todo;
+import arts.util.ParsedCommand;
+import arts.util.Storage;
+import arts.util.Ui;
+
+/**
+ * Represents the benchmarks for commands that read or reorder the task list in memory.
+ * Saves are discarded through {@link BenchmarkStorage}, so only the in-memory work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListBenchmark {
+    private static final ParsedCommand SORT_DEADLINES = new ParsedCommand(CommandType.SORT_DEADLINES, "");
+    private static final ParsedCommand SORT_EVENTS = new ParsedCommand(CommandType.SORT_EVENTS, "");
+
+    @Param({"1000", "100000"})
+    private int taskCount;
+
+    private ArrayList<Task> generated;
+    private TaskList tasks;
+    private TaskList shuffledTasks;
+    private Storage storage;
+    private Ui ui;
+    private Task present;
+    private Task absent;
+
+    /**
+     * Generates the task list shared by the read-only benchmarks.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        generated = TaskFileGenerator.generate(taskCount, TaskFileGenerator.DEFAULT_SEED);
+        tasks = new TaskList(new ArrayList<>(generated));
+        storage = new BenchmarkStorage("benchmark.txt");
+        ui = new Ui();
+        present = new Todo(generated.get(generated.size() / 2).getDescription());
+        absent = new Todo("a task that was never added");
+    }
+
+    /**
+     * Shuffles a fresh copy of the tasks before each sort, so every sort starts from an unsorted list.
+     */
+    @Setup(Level.Invocation)
+    public void shuffle() {
+        ArrayList<Task> copy = new ArrayList<>(generated);
+        Collections.shuffle(copy, new Random(TaskFileGenerator.DEFAULT_SEED));
+        shuffledTasks = new TaskList(copy);
+    }
+
+    /**
+     * Measures a single-word find.
+     *
+     * @return The command response.
+     * @throws ArtsException If the command fails.
+     */
+    @Benchmark
+    public String findWord() throws ArtsException {
+        return new FindCommand(tasks).execute(new ParsedCommand(CommandType.FIND, "report"));
+    }
+
+    /**
+     * Measures a find with a prefix, an AND and an OR.
+     *
+     * @return The command response.
+     * @throws ArtsException If the command fails.
+     */
+    @Benchmark
+    public String findQuery() throws ArtsException {
+        return new FindCommand(tasks).execute(new ParsedCommand(CommandType.FIND, "rev proj or buy groc"));
+    }
+
+    /**
+     * Measures sorting deadlines on an unsorted list.
+     *
+     * @return The command response.
+     * @throws ArtsException If the command fails.
+     */
+    @Benchmark
+    public String sortDeadlines() throws ArtsException {
+        return new SortDeadlinesCommand(shuffledTasks, storage, ui).execute(SORT_DEADLINES);
+    }
+
+    /**
+     * Measures sorting events on an unsorted list.
+     *
+     * @return The command response.
+     * @throws ArtsException If the command fails.
+     */
+    @Benchmark
+    public String sortEvents() throws ArtsException {
+        return new SortEventsCommand(shuffledTasks, storage, ui).execute(SORT_EVENTS);
+    }
+
+    /**
+     * Measures a duplicate check for a task in the list.
+     *
+     * @return Whether the task was found.
+     */
+    @Benchmark
+    public boolean containsPresent() {
+        return tasks.contains(present);
+    }
+
+    /**
+     * Measures a duplicate check for a task not in the list.
+     *
+     * @return Whether the task was found.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return tasks.contains(absent);
+    }
+}
@@ -0,0 +1,64 @@
+package arts.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arts.ArtsException;
+import arts.task.Task;
+
+/**
+ * Represents the benchmarks for decoding single task records of each type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskParseBenchmark {
+    private String todo = "T | 0 | Read lecture notes for week 7";
+    private String deadline = "D | 1 | Submit the project report | 2024-08-29 1800";
+    private String event = "E | 0 | Attend the team meeting | 2024-08-29 0900 | 2024-08-29 1700";
+
+    /**
+     * Measures decoding a todo record.
+     *
+     * @return The decoded task.
+     * @throws ArtsException If the record is malformed.
+     */
+    @Benchmark
+    public Task parseTodo() throws ArtsException {
+        return Task.fromFileFormat(todo);
+    }
+
+    /**
+     * Measures decoding a deadline record.
+     *
+     * @return The decoded task.
+     * @throws ArtsException If the record is malformed.
+     */
+    @Benchmark
+    public Task parseDeadline() throws ArtsException {
+        return Task.fromFileFormat(deadline);
+    }
+
+    /**
+     * Measures decoding an event record.
+     *
+     * @return The decoded task.
+     * @throws ArtsException If the record is malformed.
+     */
+    @Benchmark
+    public Task parseEvent() throws ArtsException {
+        return Task.fromFileFormat(event);
+    }
+}
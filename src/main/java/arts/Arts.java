@@ -1,19 +1,48 @@
 package arts;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CancellationException;
 
 import arts.command.AddDeadlineCommand;
 import arts.command.AddEventCommand;
 import arts.command.AddTodoCommand;
+import arts.command.Command;
+import arts.command.CommandPlugin;
+import arts.command.CommandRegistry;
 import arts.command.DeleteCommand;
+import arts.command.DueCommand;
+import arts.command.ExportCommand;
 import arts.command.FindCommand;
+import arts.command.FindEventsCommand;
+import arts.command.ImportCommand;
+import arts.command.ListCommand;
 import arts.command.MarkCommand;
+import arts.command.NextCommand;
+import arts.command.OverdueCommand;
 import arts.command.SortDeadlinesCommand;
 import arts.command.SortEventsCommand;
 import arts.command.UnmarkCommand;
 import arts.enums.CommandType;
+import arts.enums.StorageFormat;
 import arts.task.TaskList;
-import arts.util.Parser;
+import arts.util.DateParser;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -23,24 +52,87 @@ import arts.util.Ui;
  * and coordinating between different components like storage, UI, and task management.
  */
 public class Arts {
-    private static final DateTimeFormatter[] INPUT_FORMATTERS = new DateTimeFormatter[]{
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"),
-            DateTimeFormatter.ofPattern("d/M/yyyy HHmm")
-    };
+    private static final DateTimeFormatter EXPORT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
 
+    private static final long FLUSH_INTERVAL_MILLIS = 20;
+    private static final EnumSet<CommandType> COMMANDS_WITH_ARGUMENTS = EnumSet.of(CommandType.MARK,
+            CommandType.UNMARK, CommandType.DELETE, CommandType.TODO, CommandType.DEADLINE, CommandType.EVENT,
+            CommandType.FIND, CommandType.EVENTS, CommandType.DUE, CommandType.IMPORT, CommandType.EXPORT);
+    private static final String DEFAULT_FILE_PATH = "./data/tasks.txt";
+    private static final String JOURNAL_PROPERTY = "arts.journal";
+    private static final String FORMAT_PROPERTY = "arts.format";
+    private static final String PAGES_PROPERTY = "arts.pages";
+    private static final String COMPACT_PROPERTY = "arts.compact";
+    private static final String BATCH_OPTION = "--batch";
+    private static final String STANDARD_INPUT = "-";
+    private static final int OUTPUT_BUFFER_CHARS = 1 << 16;
+
+    private static final String ERROR_PREFIX = "OOPS!!! ";
     private static final String GOODBYE_MESSAGE = "Bye! Hope to see you again soon!";
-    private static final String NO_TASKS_MESSAGE = "No tasks yet! Why not add some?";
-    private static final String TASK_LIST_HEADER = "Here are the tasks in your list:\n";
     private static final String UNKNOWN_COMMAND_MESSAGE = "I'm sorry, but I don't know what that means.";
     private static final String UNEXPECTED_ERROR_MESSAGE = "An unexpected error occurred: ";
+    private static final String MISSING_ARGUMENTS_MESSAGE = "This command needs more details.";
+    static final String CANCELLED_MESSAGE = "🛑 Quest abandoned! The command was cancelled and nothing was changed.";
+
+    private static final List<CommandPlugin> PLUGINS = loadPlugins();
 
     private final Storage storage;
     private final TaskList tasks;
     private final Ui ui;
-    private final Parser parser;
+    private final CommandRegistry commands;
+
+    /**
+     * Constructs the Arts object used by the application, storing tasks in {@code ./data/tasks.txt}
+     * in the mode chosen by system properties. With {@code -Darts.journal=true}, each change is appended
+     * to a journal that is folded back into the task file in the background. With {@code -Darts.format=binary},
+     * the task file is saved in the binary format; a file in either format is loaded, and converted on the next save.
+     * With {@code -Darts.pages=N}, a text task file is opened as a paged list keeping N pages in memory,
+     * which cannot be combined with the journal or the binary format. With {@code -Darts.compact=true}, tasks are
+     * kept in a compact list of rows that holds far less memory per task but is not indexed and cannot be sorted.
+     *
+     * @return The Arts object for the application.
+     * @throws IllegalArgumentException If a property has a value that is not understood, or the chosen modes
+     *         cannot be combined.
+     */
+    public static Arts create() {
+        boolean isJournaled = Boolean.getBoolean(JOURNAL_PROPERTY);
+        StorageFormat format = parseFormat(System.getProperty(FORMAT_PROPERTY, StorageFormat.TEXT.name()));
+        boolean isCompact = Boolean.getBoolean(COMPACT_PROPERTY);
+        String pages = System.getProperty(PAGES_PROPERTY);
+        if (pages == null) {
+            return new Arts(DEFAULT_FILE_PATH, isJournaled, format, isCompact);
+        }
+        if (isJournaled || format != StorageFormat.TEXT) {
+            throw new IllegalArgumentException(PAGES_PROPERTY + " only opens a text task file that is not journaled.");
+        }
+        if (isCompact) {
+            throw new IllegalArgumentException(PAGES_PROPERTY + " and " + COMPACT_PROPERTY + " cannot be combined.");
+        }
+        return new Arts(DEFAULT_FILE_PATH, parsePages(pages));
+    }
+
+    private static StorageFormat parseFormat(String value) {
+        for (StorageFormat format : StorageFormat.values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unknown " + FORMAT_PROPERTY + " '" + value + "'. Please use text or binary.");
+    }
 
-    // New field to store the command type
-    private String commandType;
+    private static int parsePages(String value) {
+        try {
+            int pages = Integer.parseInt(value.trim());
+            if (pages > 0) {
+                return pages;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below with the accepted values
+        }
+        throw new IllegalArgumentException(
+                "Unknown " + PAGES_PROPERTY + " '" + value + "'. Please use a positive number of pages.");
+    }
 
     /**
      * Constructs an Arts object with the specified file path for task storage.
@@ -49,19 +141,157 @@ public class Arts {
      * @param filePath The path of the file where tasks are stored.
      */
     public Arts(String filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs an Arts object with the specified file path for task storage,
+     * optionally recording each change in a journal instead of rewriting the file.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     * @param isJournaled Whether the storage appends changes to a journal.
+     */
+    public Arts(String filePath, boolean isJournaled) {
+        this(filePath, isJournaled, StorageFormat.TEXT);
+    }
+
+    /**
+     * Constructs an Arts object with the specified file path and file format for task storage,
+     * optionally recording each change in a journal instead of rewriting the file.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     * @param isJournaled Whether the storage appends changes to a journal.
+     * @param format The format in which the task file is written.
+     */
+    public Arts(String filePath, boolean isJournaled, StorageFormat format) {
+        this(filePath, isJournaled, format, false);
+    }
+
+    /**
+     * Constructs an Arts object with the specified file path and file format for task storage, optionally
+     * recording each change in a journal, and optionally keeping the tasks in a compact list that stores them
+     * as rows rather than as task objects. A compact list holds far less memory per task, but it is not indexed,
+     * so lookups scan the list and it cannot be sorted.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     * @param isJournaled Whether the storage appends changes to a journal.
+     * @param format The format in which the task file is written.
+     * @param isCompact Whether the tasks are kept in a compact list.
+     */
+    public Arts(String filePath, boolean isJournaled, StorageFormat format, boolean isCompact) {
+        assert filePath != null && !filePath.trim().isEmpty() : "File path cannot be null or empty";
+        ui = new Ui();
+        storage = new Storage(filePath, isJournaled, format);
+
+        TaskList tempTasks;
+        try {
+            tempTasks = isCompact ? new TaskList(storage.loadCompact(), false) : new TaskList(storage.load());
+        } catch (ArtsException e) {
+            ui.showError(e.getMessage());
+            tempTasks = new TaskList();
+        }
+        tasks = tempTasks;
+        commands = createCommands(null);
+        storage.startAsync(FLUSH_INTERVAL_MILLIS, tasks.getReadLock());
+    }
+
+    /**
+     * Constructs an Arts object that loads its tasks from the given storage and saves them on the thread
+     * that runs each command, without starting a background writer. This suits hosting many instances in one
+     * process, such as one per user of a server, where a writer thread for each would not scale.
+     *
+     * @param storage The storage the tasks are loaded from and saved to.
+     * @throws ArtsException If the tasks cannot be loaded.
+     */
+    public Arts(Storage storage) throws ArtsException {
+        this(storage, null);
+    }
+
+    /**
+     * Constructs an Arts object that loads its tasks from the given storage, like {@link #Arts(Storage)},
+     * and that only imports and exports files inside the given directory, such as for a user of a server
+     * who must not reach the rest of the file system. Unlike the other constructors, it does not start with
+     * an empty list when the tasks cannot be loaded, since saving that list would replace the user's file.
+     *
+     * @param storage The storage the tasks are loaded from and saved to.
+     * @param transferDirectory The directory that files are imported from and exported to, or null to allow any.
+     * @throws ArtsException If the tasks cannot be loaded.
+     */
+    public Arts(Storage storage, Path transferDirectory) throws ArtsException {
+        assert storage != null : "Storage cannot be null";
+        ui = new Ui();
+        this.storage = storage;
+        tasks = new TaskList(storage.load());
+        commands = createCommands(transferDirectory);
+    }
+
+    /**
+     * Constructs an Arts object that opens its text task file as a paged list, so that archives larger
+     * than the heap can be listed and changed. Only the given number of pages of tasks are kept in memory.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     * @param cachedPages The number of pages of decoded tasks to keep in memory.
+     */
+    public Arts(String filePath, int cachedPages) {
         assert filePath != null && !filePath.trim().isEmpty() : "File path cannot be null or empty";
         ui = new Ui();
         storage = new Storage(filePath);
-        parser = new Parser();
 
         TaskList tempTasks;
         try {
-            tempTasks = new TaskList(storage.load());
+            tempTasks = new TaskList(storage.loadPaged(cachedPages), false);
         } catch (ArtsException e) {
             ui.showError(e.getMessage());
             tempTasks = new TaskList();
         }
         tasks = tempTasks;
+        commands = createCommands(null);
+    }
+
+    /**
+     * Creates the registry of built-in commands working on this instance's tasks, followed by the commands of
+     * every plugin. Each command is created once here and reused for every input.
+     * Import and export only reach files inside the transfer directory, unless it is null.
+     */
+    private CommandRegistry createCommands(Path transferDirectory) {
+        CommandRegistry registry = new CommandRegistry();
+        Clock clock = Clock.systemDefaultZone();
+        DateParser dateParser = new DateParser(clock);
+        registry.register(CommandType.BYE, command -> {
+            storage.close();
+            return GOODBYE_MESSAGE;
+        });
+        registry.register(CommandType.LIST, new ListCommand(tasks));
+        registry.register(CommandType.MARK, new MarkCommand(tasks, storage, ui));
+        registry.register(CommandType.UNMARK, new UnmarkCommand(tasks, storage, ui));
+        registry.register(CommandType.DELETE, new DeleteCommand(tasks, storage, ui));
+        registry.register(CommandType.TODO, new AddTodoCommand(tasks, storage, ui));
+        registry.register(CommandType.DEADLINE, new AddDeadlineCommand(tasks, storage, ui, dateParser));
+        registry.register(CommandType.EVENT, new AddEventCommand(tasks, storage, ui, dateParser));
+        registry.register(CommandType.FIND, new FindCommand(tasks));
+        registry.register(CommandType.SORT_DEADLINES, new SortDeadlinesCommand(tasks, storage, ui));
+        registry.register(CommandType.SORT_EVENTS, new SortEventsCommand(tasks, storage, ui));
+        registry.register(CommandType.EVENTS, new FindEventsCommand(tasks, dateParser));
+        registry.register(CommandType.DUE, new DueCommand(tasks, dateParser));
+        registry.register(CommandType.NEXT, new NextCommand(tasks, clock));
+        registry.register(CommandType.OVERDUE, new OverdueCommand(tasks, clock));
+        registry.register(CommandType.IMPORT, new ImportCommand(tasks, storage, dateParser, transferDirectory));
+        registry.register(CommandType.EXPORT, new ExportCommand(tasks, EXPORT_FORMATTER, transferDirectory));
+        for (CommandPlugin plugin : PLUGINS) {
+            plugin.registerCommands(registry, tasks, storage, ui);
+        }
+        return registry;
+    }
+
+    /**
+     * Returns whether the input ends the conversation, as understood by this instance's parser,
+     * which also knows the keywords registered by plugins.
+     *
+     * @param input The user input.
+     * @return true if the input is the bye command or one of its aliases, otherwise false.
+     */
+    public boolean isBye(String input) {
+        return CommandType.BYE.name().equals(getCommandType(input));
     }
 
     /**
@@ -73,83 +303,224 @@ public class Arts {
     public String getResponse(String input) {
         assert input != null : "Input cannot be null";
         try {
-            CommandType command = parser.parseCommand(input);
-            commandType = command.name();
-            String[] parts = parser.parseArguments(input);
-
-            switch (command) {
-            case BYE:
-                return GOODBYE_MESSAGE;
-            case LIST:
-                return listTasks();
-            case MARK:
-                assert parts.length > 1 : "MARK command requires additional arguments";
-                return new MarkCommand(tasks, storage, ui, parts[1]).execute();
-            case UNMARK:
-                assert parts.length > 1 : "UNMARK command requires additional arguments";
-                return new UnmarkCommand(tasks, storage, ui, parts[1]).execute();
-            case DELETE:
-                assert parts.length > 1 : "DELETE command requires additional arguments";
-                return new DeleteCommand(tasks, storage, ui, parts[1]).execute();
-            case TODO:
-                assert parts.length > 1 : "TODO command requires additional arguments";
-                return new AddTodoCommand(tasks, storage, ui, parts[1]).execute();
-            case DEADLINE:
-                assert parts.length > 1 : "DEADLINE command requires additional arguments";
-                return new AddDeadlineCommand(tasks, storage, ui, parts[1], INPUT_FORMATTERS).execute();
-            case EVENT:
-                assert parts.length > 1 : "EVENT command requires additional arguments";
-                return new AddEventCommand(tasks, storage, ui, parts[1], INPUT_FORMATTERS).execute();
-            case FIND:
-                assert parts.length > 1 : "FIND command requires additional arguments";
-                return new FindCommand(tasks, parts[1]).execute();
-            case SORT_DEADLINES:
-                return new SortDeadlinesCommand(tasks, storage, ui).execute();
-            case SORT_EVENTS:
-                return new SortEventsCommand(tasks, storage, ui).execute();
-            default:
-                throw new ArtsException(UNKNOWN_COMMAND_MESSAGE);
-            }
+            return getResponse(commands.getParser().parse(input));
+        } catch (ArtsException e) {
+            return ERROR_PREFIX + e.getMessage();
+        }
+    }
+
+    private String getResponse(ParsedCommand command) {
+        try {
+            return execute(command);
         } catch (ArtsException e) {
-            return "OOPS!!! " + e.getMessage();
+            return ERROR_PREFIX + e.getMessage();
+        } catch (CancellationException e) {
+            return CANCELLED_MESSAGE;
         } catch (Exception e) {
             return UNEXPECTED_ERROR_MESSAGE + e.getMessage();
         }
     }
 
     /**
-     * Returns the type of the last command executed.
+     * Executes a parsed command with the command registered under its name and returns its response.
+     */
+    private String execute(ParsedCommand command) throws ArtsException {
+        checkArguments(command);
+        Command handler = commands.get(command.getName());
+        if (handler == null) {
+            throw new ArtsException(UNKNOWN_COMMAND_MESSAGE);
+        }
+        return handler.execute(command);
+    }
+
+    private static List<CommandPlugin> loadPlugins() {
+        List<CommandPlugin> plugins = new ArrayList<>();
+        ServiceLoader.load(CommandPlugin.class).forEach(plugins::add);
+        return plugins;
+    }
+
+    private static void checkArguments(ParsedCommand command) throws ArtsException {
+        if (COMMANDS_WITH_ARGUMENTS.contains(command.getType()) && !command.hasArguments()) {
+            throw new ArtsException(MISSING_ARGUMENTS_MESSAGE);
+        }
+    }
+
+    /**
+     * Generates a response based on user input as a sequence of chunks that can be shown as they are produced.
+     * For a {@code list} of every task, the chunks are built lazily one page of tasks at a time, so that a long list
+     * is never held as one string. Every other response is a single chunk.
      *
-     * @return The command type as a string.
+     * @param input The user input.
+     * @return An iterator over the chunks of the response.
      */
-    public String getCommandType() {
-        return commandType;
+    public Iterator<String> getResponseStream(String input) {
+        assert input != null : "Input cannot be null";
+        ParsedCommand command;
+        try {
+            command = commands.getParser().parse(input);
+        } catch (ArtsException e) {
+            return List.of(ERROR_PREFIX + e.getMessage()).iterator();
+        }
+        Command handler = commands.get(command.getName());
+        if (handler instanceof ListCommand && ((ListCommand) handler).isAll(command)) {
+            try {
+                return ((ListCommand) handler).stream(command);
+            } catch (ArtsException e) {
+                // Reported by getResponse below
+            }
+        }
+        return List.of(getResponse(command)).iterator();
+    }
+
+    /**
+     * Returns the type of the command in the given input, without running it. No command type is kept between
+     * calls, so an instance can be shared by threads that each ask about their own input.
+     *
+     * @param input The user input.
+     * @return The command type as a string, or null if the input is not understood.
+     */
+    public String getCommandType(String input) {
+        assert input != null : "Input cannot be null";
+        try {
+            return commands.getParser().parse(input).getName();
+        } catch (ArtsException e) {
+            return null;
+        }
     }
 
     /**
-     * Lists all tasks currently in the task list.
+     * Runs every command read from the input in a single-save, best-effort run and writes a compact result
+     * for each. All commands are parsed before any of them runs. They then run in order while holding the task
+     * list's write lock, so no other session sees the list part way through, and the list is saved once at
+     * the end instead of after every change. Reading stops at {@code bye}, and blank lines are skipped.
+     * <p>
+     * The run is not a transaction: a command that fails is reported and skipped, the commands after it
+     * still run, and the changes of every command that succeeded are kept and saved. Only a failed save
+     * leaves the task file as it was before the run.
+     * <p>
+     * Each result is one line of tab-separated fields: the input line number, {@code OK} or {@code ERROR},
+     * the command type, and the response with backslashes, tabs and line breaks escaped as {@code \\},
+     * {@code \t} and {@code \n}. The last line is {@code DONE} followed by the numbers of commands that
+     * succeeded and failed, or {@code FAILED} and an error if the list could not be saved.
      *
-     * @return A string representation of all tasks.
-     */
-    private String listTasks() {
-        if (tasks.isEmpty()) {
-            return NO_TASKS_MESSAGE;
-        } else {
-            StringBuilder sb = new StringBuilder(TASK_LIST_HEADER);
-            for (int i = 0; i < tasks.size(); i++) {
-                sb.append((i + 1)).append(". ").append(tasks.getTask(i)).append("\n");
+     * @param in The commands, one per line.
+     * @param out The writer the results are written to.
+     * @return The number of commands that failed, counting every command if the list could not be saved.
+     * @throws IOException If the commands cannot be read.
+     */
+    public int runBatch(BufferedReader in, PrintWriter out) throws IOException {
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<ParsedCommand> parsed = new ArrayList<>();
+        List<String> parseErrors = new ArrayList<>();
+        int lineNumber = 0;
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
             }
-            return sb.toString();
+            ParsedCommand command = null;
+            String error = null;
+            try {
+                command = commands.getParser().parse(line);
+                checkArguments(command);
+            } catch (ArtsException e) {
+                error = e.getMessage();
+            }
+            if (command != null && command.getType() == CommandType.BYE) {
+                break;
+            }
+            lineNumbers.add(lineNumber);
+            parsed.add(command);
+            parseErrors.add(error);
+        }
+
+        int failures;
+        storage.beginBatch();
+        try {
+            failures = tasks.update(() -> {
+                int failed = 0;
+                try {
+                    for (int i = 0; i < parsed.size(); i++) {
+                        String command = parsed.get(i) == null ? "UNKNOWN" : parsed.get(i).getName();
+                        String error = parseErrors.get(i);
+                        String response = null;
+                        if (error == null) {
+                            try {
+                                response = execute(parsed.get(i));
+                            } catch (ArtsException e) {
+                                error = e.getMessage();
+                            } catch (RuntimeException e) {
+                                error = UNEXPECTED_ERROR_MESSAGE + e.getMessage();
+                            }
+                        }
+                        if (error != null) {
+                            failed++;
+                        }
+                        out.append(String.valueOf(lineNumbers.get(i))).append('\t')
+                                .append(error == null ? "OK" : "ERROR").append('\t')
+                                .append(command).append('\t')
+                                .append(escape(error == null ? response : error)).append('\n');
+                    }
+                } finally {
+                    storage.endBatch(tasks.getTasks());
+                }
+                return failed;
+            });
+        } catch (ArtsException e) {
+            out.append("FAILED\t").append(escape(e.getMessage())).append('\n').flush();
+            return parsed.size();
         }
+        out.append("DONE\t").append(String.valueOf(parsed.size() - failures)).append('\t')
+                .append(String.valueOf(failures)).append('\n').flush();
+        return failures;
+    }
+
+    private static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                break;
+            default:
+                sb.append(c);
+            }
+        }
+        return sb.toString();
     }
 
     /**
-     * Starts the Arts application.
+     * Starts the Arts application, in the storage mode chosen as described in {@link #create()}.
+     * With {@code --batch <file>}, or {@code --batch -} to read standard input, the commands are run
+     * with a single save as described in {@link #runBatch(BufferedReader, PrintWriter)} instead,
+     * and the exit status is 1 if any of them failed.
      *
      * @param args Command line arguments.
+     * @throws IOException If the batch of commands cannot be read.
      */
-    public static void main(String[] args) {
-        new Arts("./data/tasks.txt").run();
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || !args[0].equals(BATCH_OPTION)) {
+            create().run();
+            return;
+        }
+        Arts arts = create();
+        InputStream input = args[1].equals(STANDARD_INPUT) ? System.in : new FileInputStream(args[1]);
+        int failures;
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            PrintWriter out = new PrintWriter(new BufferedWriter(
+                    new OutputStreamWriter(System.out, StandardCharsets.UTF_8), OUTPUT_BUFFER_CHARS));
+            failures = arts.runBatch(in, out);
+        }
+        System.exit(failures > 0 ? 1 : 0);
     }
 
     /**
@@ -162,11 +533,8 @@ public class Arts {
             try {
                 String input = ui.readCommand();
                 assert input != null : "Input from UI cannot be null";
-                String response = getResponse(input);
-                ui.showMessage(response);
-                if (input.equalsIgnoreCase("bye")) {
-                    isExit = true;
-                }
+                ui.showMessage(getResponseStream(input));
+                isExit = isBye(input);
             } catch (Exception e) {
                 ui.showError(UNEXPECTED_ERROR_MESSAGE + e.getMessage());
             }
@@ -0,0 +1,65 @@
+package arts;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.Supplier;
+
+/**
+ * Represents a request to stop a command that may still be running on another thread.
+ * While a command runs under a Cancellation, long loops over the task list call {@link #checkpoint()},
+ * which throws once the command has been cancelled. Checkpoints are only placed where stopping leaves
+ * the task list and its indexes unchanged, so a cancelled command has no partial effect.
+ * A flag is used instead of interrupting the thread, because an interrupt closes any file channel
+ * the command is writing to.
+ */
+public class Cancellation {
+    private static final ThreadLocal<Cancellation> CURRENT = new ThreadLocal<>();
+
+    private volatile boolean isCancelled;
+
+    /**
+     * Requests that the work running under this Cancellation stops at its next checkpoint.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    /**
+     * Returns whether this Cancellation has been requested.
+     *
+     * @return true if {@link #cancel()} has been called, otherwise false.
+     */
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Runs work on the current thread so that checkpoints reached during it observe this Cancellation.
+     *
+     * @param work The work to run.
+     * @param <T> The type of the work's result.
+     * @return The result of the work.
+     * @throws CancellationException If the work reached a checkpoint after being cancelled and did not handle it.
+     */
+    public <T> T run(Supplier<T> work) {
+        Cancellation outer = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return work.get();
+        } finally {
+            CURRENT.set(outer);
+        }
+    }
+
+    /**
+     * Stops the work running on the current thread if it has been cancelled.
+     * Does nothing when the current thread is not running under a Cancellation.
+     *
+     * @throws CancellationException If the current work has been cancelled.
+     */
+    public static void checkpoint() {
+        Cancellation current = CURRENT.get();
+        if (current != null && current.isCancelled) {
+            throw new CancellationException();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package arts;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents a runner that executes commands on a single worker thread, so that a slow command does not
+ * block the thread that accepted it, such as the JavaFX Application Thread.
+ * Commands run one at a time in the order they were submitted, so each sees the effects of the ones before it.
+ * The command that is running can be cancelled; it then stops at its next checkpoint without changing anything.
+ * Listeners are called on the worker thread and must hand results over to their own thread themselves.
+ */
+public class CommandRunner {
+    private static final String UNEXPECTED_ERROR_MESSAGE = "An unexpected error occurred: ";
+
+    private final Arts arts;
+    private final ExecutorService executor;
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile Cancellation running;
+
+    /**
+     * Represents a receiver of the response to a submitted command.
+     */
+    public interface Listener {
+        /**
+         * Receives the next chunk of a response. Most responses are a single chunk.
+         *
+         * @param chunk The text of the chunk.
+         * @param commandType The type of the command, or null if it was not understood.
+         * @param isFirst Whether this is the first chunk of the response.
+         */
+        void onChunk(String chunk, String commandType, boolean isFirst);
+    }
+
+    /**
+     * Constructs a CommandRunner that executes commands against the given Arts instance.
+     * The worker is a daemon thread, so it does not keep the application alive.
+     *
+     * @param arts The Arts instance that executes commands.
+     */
+    public CommandRunner(Arts arts) {
+        assert arts != null : "Arts cannot be null";
+        this.arts = arts;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "arts-command");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a command to run after every command submitted before it.
+     *
+     * @param input The user input.
+     * @param listener The receiver of the response.
+     * @return A future that completes once the whole response has been passed to the listener.
+     */
+    public Future<?> submit(String input, Listener listener) {
+        assert input != null : "Input cannot be null";
+        assert listener != null : "Listener cannot be null";
+        pending.incrementAndGet();
+        return executor.submit(() -> run(input, listener));
+    }
+
+    private void run(String input, Listener listener) {
+        Cancellation cancellation = new Cancellation();
+        running = cancellation;
+        boolean isFirst = true;
+        try {
+            Iterator<String> chunks = cancellation.run(() -> arts.getResponseStream(input));
+            String commandType = arts.getCommandType(input);
+            while (chunks.hasNext()) {
+                if (!isFirst && cancellation.isCancelled()) {
+                    listener.onChunk(Arts.CANCELLED_MESSAGE, commandType, false);
+                    break;
+                }
+                listener.onChunk(cancellation.run(chunks::next), commandType, isFirst);
+                isFirst = false;
+            }
+        } catch (RuntimeException e) {
+            listener.onChunk(UNEXPECTED_ERROR_MESSAGE + e.getMessage(), null, isFirst);
+        } finally {
+            running = null;
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Cancels the command that is running, if any. Commands submitted after it still run.
+     */
+    public void cancelRunning() {
+        Cancellation cancellation = running;
+        if (cancellation != null) {
+            cancellation.cancel();
+        }
+    }
+
+    /**
+     * Returns whether any submitted command has not finished yet.
+     *
+     * @return true if a command is running or queued, otherwise false.
+     */
+    public boolean isBusy() {
+        return pending.get() > 0;
+    }
+
+    /**
+     * Stops accepting commands. Commands already submitted still run.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,52 +1,86 @@
 package arts;
 
-import java.io.IOException;
-import java.util.Collections;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
+import javafx.geometry.NodeOrientation;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 
 /**
  * Represents a dialog box consisting of an ImageView to represent the speaker's face
  * and a label containing text from the speaker.
+ * The nodes are built in code once per dialog box, and a dialog box can be shown again with another message,
+ * so that the conversation view can reuse it. Arts' replies are laid out right to left rather than by
+ * reordering the children, which puts the picture on the left with a single property change.
  */
 public class DialogBox extends HBox {
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
+    private static final String STYLESHEET = DialogBox.class.getResource("/css/dialog-box.css").toExternalForm();
+    private static final String REPLY_STYLE_CLASS = "reply-label";
+    private static final double PICTURE_SIZE = 99.0;
+    private static final double PREF_WIDTH = 400.0;
+
+    private final Label dialog = new Label();
+    private final ImageView displayPicture = new ImageView();
+
+    private boolean isReply;
 
     private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        dialog.setWrapText(true);
+        dialog.setPadding(new Insets(6.0));
+        dialog.setNodeOrientation(NodeOrientation.LEFT_TO_RIGHT);
+        HBox.setMargin(dialog, new Insets(0, 7.0, 0, 7.0));
+
+        displayPicture.setId("displayPicture");
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setPreserveRatio(true);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setNodeOrientation(NodeOrientation.LEFT_TO_RIGHT);
+
+        getStylesheets().add(STYLESHEET);
+        getChildren().addAll(dialog, displayPicture);
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPrefWidth(PREF_WIDTH);
+        setPadding(new Insets(15.0, 5.0, 15.0, 5.0));
 
         dialog.setText(text);
         displayPicture.setImage(img);
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Flips the dialog box between the user's side, with the ImageView on the right,
+     * and Arts' side, with the ImageView on the left and the text on the right.
+     * The label and picture keep their own left-to-right orientation, so neither is mirrored.
      */
     private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
-        dialog.getStyleClass().add("reply-label");
+        isReply = !isReply;
+        if (isReply) {
+            setNodeOrientation(NodeOrientation.RIGHT_TO_LEFT);
+            dialog.getStyleClass().add(REPLY_STYLE_CLASS);
+        } else {
+            setNodeOrientation(NodeOrientation.LEFT_TO_RIGHT);
+            dialog.getStyleClass().remove(REPLY_STYLE_CLASS);
+        }
+    }
+
+    /**
+     * Shows another message in this dialog box, on the side of its speaker.
+     *
+     * @param text The text of the message.
+     * @param img The speaker's picture, or null to leave the space for it empty.
+     * @param isReply Whether the message is a reply from Arts rather than the user's input.
+     */
+    public void show(String text, Image img, boolean isReply) {
+        dialog.setText(text);
+        displayPicture.setImage(img);
+        if (isReply != this.isReply) {
+            flip();
+        }
     }
 
     public static DialogBox getUserDialog(String text, Image img) {
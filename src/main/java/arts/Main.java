@@ -10,11 +10,11 @@ import javafx.stage.Stage;
 
 
 /**
- * Represents a GUI for Arts using FXML.
+ * Represents a GUI for Arts using FXML. The storage mode is chosen as described in {@link Arts#create()}.
  */
 public class Main extends Application {
 
-    private Arts arts = new Arts("./data/tasks.txt");
+    private Arts arts = Arts.create();
 
     @Override
     public void start(Stage stage) {
@@ -1,54 +1,142 @@
 package arts;
 
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javafx.animation.AnimationTimer;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
 
 /**
  * Represents a controller for the main GUI.
+ * The conversation is shown in a ListView, which only creates dialog boxes for the messages in view and
+ * reuses them as the user scrolls. Only the most recent messages are kept.
+ * Commands run on a worker thread in the order they were sent, so the window stays responsive while
+ * a long search, sort or save is in progress, and the running command can be stopped.
  */
 public class MainWindow extends AnchorPane {
+    private static final long CHUNK_BUDGET_NANOS = 8_000_000;
+    private static final int MAX_MESSAGES = 5000;
+    private static final double SCROLL_BAR_ALLOWANCE = 20;
+
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<Message> dialogList;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private ProgressIndicator busyIndicator;
+    @FXML
+    private Button stopButton;
 
-    private Arts arts;
+    private final ObservableList<Message> messages = FXCollections.observableArrayList();
+    private final ConcurrentLinkedQueue<Message> replies = new ConcurrentLinkedQueue<>();
+    private final AnimationTimer replyPump = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            showReplies();
+        }
+    };
+    private CommandRunner runner;
 
     private Image userImage = new Image(this.getClass().getResourceAsStream("/images/DaUser.png"));
     private Image artsImage = new Image(this.getClass().getResourceAsStream("/images/DaArts.png"));
 
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(list -> new DialogCell());
     }
 
     /** Injects the Arts instance */
     public void setArts(Arts a) {
-        arts = a;
+        runner = new CommandRunner(a);
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Arts' reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Echoes the user input in the conversation and sends it to be executed on the worker thread.
+     * Clears the user input after sending it. Arts' reply is added to the conversation once it arrives.
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
-        String response = arts.getResponse(input);
-        String commandType = arts.getCommandType();
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getArtsDialog(response, artsImage, commandType)
-        );
+        addMessage(new Message(input, true, false));
         userInput.clear();
+        runner.submit(input, (chunk, commandType, isFirst) -> replies.add(new Message(chunk, false, !isFirst)));
+        setBusy(true);
+        replyPump.start();
+    }
+
+    /**
+     * Stops the command that is running. Commands sent after it still run.
+     */
+    @FXML
+    private void handleStop() {
+        runner.cancelRunning();
+    }
+
+    /**
+     * Adds the replies that have arrived from the worker thread, spending at most a few milliseconds per frame,
+     * so the window keeps responding while a long reply is shown. Stops once every command has finished
+     * and all of its replies are shown.
+     */
+    private void showReplies() {
+        long start = System.nanoTime();
+        while (!replies.isEmpty() && System.nanoTime() - start < CHUNK_BUDGET_NANOS) {
+            addMessage(replies.poll());
+        }
+        if (!runner.isBusy() && replies.isEmpty()) {
+            setBusy(false);
+            replyPump.stop();
+        }
+    }
+
+    private void setBusy(boolean isBusy) {
+        busyIndicator.setVisible(isBusy);
+        stopButton.setVisible(isBusy);
+    }
+
+    /**
+     * Appends a message, dropping the oldest ones once there are too many, and scrolls to it.
+     */
+    private void addMessage(Message message) {
+        messages.add(message);
+        if (messages.size() > MAX_MESSAGES) {
+            messages.remove(0, messages.size() - MAX_MESSAGES);
+        }
+        dialogList.scrollTo(messages.size() - 1);
+    }
+
+    /**
+     * Represents a row of the conversation, which keeps one dialog box and shows whichever message
+     * the ListView currently assigns to the row.
+     */
+    private class DialogCell extends ListCell<Message> {
+        private final DialogBox dialogBox = DialogBox.getUserDialog("", null);
+
+        DialogCell() {
+            setPrefWidth(0);
+            dialogBox.prefWidthProperty().bind(dialogList.widthProperty().subtract(SCROLL_BAR_ALLOWANCE));
+        }
+
+        @Override
+        protected void updateItem(Message message, boolean isEmpty) {
+            super.updateItem(message, isEmpty);
+            if (isEmpty || message == null) {
+                setGraphic(null);
+                return;
+            }
+            Image image = message.isContinuation() ? null : message.isUser() ? userImage : artsImage;
+            dialogBox.show(message.getText(), image, !message.isUser());
+            setGraphic(dialogBox);
+        }
     }
 }
@@ -0,0 +1,48 @@
+package arts;
+
+/**
+ * Represents one entry in the conversation shown by the GUI: either the user's input or a reply from Arts.
+ * A long reply that is produced in chunks is stored as one entry per chunk, with every chunk after the first
+ * marked as a continuation so that it is drawn without the speaker's picture.
+ */
+public class Message {
+    private final String text;
+    private final boolean isUser;
+    private final boolean isContinuation;
+
+    /**
+     * Constructs a Message.
+     *
+     * @param text The text of the message.
+     * @param isUser Whether the message was typed by the user rather than sent by Arts.
+     * @param isContinuation Whether the message continues the previous one.
+     */
+    public Message(String text, boolean isUser, boolean isContinuation) {
+        assert text != null : "Message text cannot be null";
+        this.text = text;
+        this.isUser = isUser;
+        this.isContinuation = isContinuation;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns whether the message was typed by the user.
+     *
+     * @return true if the user typed the message, false if it is a reply from Arts.
+     */
+    public boolean isUser() {
+        return isUser;
+    }
+
+    /**
+     * Returns whether the message continues the previous one.
+     *
+     * @return true if the message is a later chunk of a reply, otherwise false.
+     */
+    public boolean isContinuation() {
+        return isContinuation;
+    }
+}
@@ -1,12 +1,12 @@
 package arts.command;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 import arts.ArtsException;
 import arts.task.Deadline;
 import arts.task.TaskList;
+import arts.util.DateParser;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -14,49 +14,43 @@ import arts.util.Ui;
  * Represents a command to add a deadline task to the task list.
  */
 public class AddDeadlineCommand implements Command {
-    private static final String DATE_FORMAT_ERROR_MESSAGE = "Invalid date format. "
-            + "Please use yyyy-MM-dd HHmm or d/M/yyyy HHmm.";
     private final TaskList tasks;
     private final Storage storage;
     private final Ui ui;
-    private final String details;
-    private final DateTimeFormatter[] inputFormatters;
+    private final DateParser dateParser;
 
 
     /**
-     * Constructs an AddDeadlineCommand with the specified task list, storage, UI, task details,
-     * and date formatters.
+     * Constructs an AddDeadlineCommand with the specified task list, storage, UI,
+     * and date parser.
      *
      * @param tasks The list of tasks.
      * @param storage The storage used to save tasks.
      * @param ui The user interface for displaying messages.
-     * @param details The details of the task to be added.
-     * @param inputFormatters An array of date formatters for parsing the deadline date.
+     * @param dateParser The parser for the deadline date.
      */
-    public AddDeadlineCommand(TaskList tasks, Storage storage, Ui ui, String details,
-                              DateTimeFormatter... inputFormatters) {
+    public AddDeadlineCommand(TaskList tasks, Storage storage, Ui ui, DateParser dateParser) {
         assert tasks != null : "TaskList cannot be null";
         assert storage != null : "Storage cannot be null";
         assert ui != null : "Ui cannot be null";
-        assert details != null && !details.trim().isEmpty() : "Details cannot be null or empty";
-        assert inputFormatters != null && inputFormatters.length > 0 : "At least one DateTimeFormatter "
-                + "must be provided";
+        assert dateParser != null : "DateParser cannot be null";
 
         this.tasks = tasks;
         this.storage = storage;
         this.ui = ui;
-        this.details = details.trim();
-        this.inputFormatters = inputFormatters;
+        this.dateParser = dateParser;
     }
 
     /**
      * Executes the command to add a deadline task. Parses the task details and adds the task
      * to the task list. Saves the updated task list to storage and displays a confirmation message.
      *
+     * @param command The parsed input, whose arguments are the details of the task.
      * @throws ArtsException If the task details are invalid or if the date format is incorrect.
      */
     @Override
-    public String execute() throws ArtsException {
+    public String execute(ParsedCommand command) throws ArtsException {
+        String details = command.getArguments();
         String[] deadlineParts = details.split(" /by ");
         if (deadlineParts.length < 2 || deadlineParts[1].trim().isEmpty()) {
             throw new ArtsException("Details must contain a '/by' to separate task description and deadline");
@@ -69,39 +63,38 @@ public class AddDeadlineCommand implements Command {
 
         LocalDateTime deadlineDate = parseDate(deadlineParts[1].trim());
 
-        if (tasks.contains(new Deadline(taskDescription, deadlineDate))) {
-            throw new ArtsException("A task with the same description and deadline already exists.");
-        }
+        return tasks.update(() -> {
+            if (tasks.contains(new Deadline(taskDescription, deadlineDate))) {
+                throw new ArtsException("A task with the same description and deadline already exists.");
+            }
 
-        tasks.addTask(new Deadline(taskDescription, deadlineDate));
+            Deadline newDeadline = new Deadline(taskDescription, deadlineDate);
+            tasks.addTask(newDeadline);
 
-        assert tasks.size() > 0 : "Task was not added to the task list";
+            assert tasks.size() > 0 : "Task was not added to the task list";
 
-        storage.save(tasks.getTasks());
+            storage.saveAdd(newDeadline, tasks.getTasks());
 
-        return "Yatta! 🎉 I've successfully added this task to your list:\n✨ " + tasks.getTask(tasks.size() - 1)
-                + " ✨\nNow your quest has " + tasks.size() + " " + (tasks.size() == 1 ? "task" : "tasks")
-                + " to conquer! Ganbatte! 💪";
+            return "Yatta! 🎉 I've successfully added this task to your list:\n✨ " + tasks.getTask(tasks.size() - 1)
+                    + " ✨\nNow your quest has " + tasks.size() + " " + (tasks.size() == 1 ? "task" : "tasks")
+                    + " to conquer! Ganbatte! 💪";
+        });
     }
 
     /**
-     * Parses a date string using the provided date formatters. Attempts to parse the date string
-     * with each formatter until successful. Throws an exception if all formatters fail.
+     * Parses a date string using the date parser.
      *
      * @param dateString The date string to parse.
      * @return The parsed LocalDateTime object.
-     * @throws ArtsException If the date string cannot be parsed with any of the provided formatters.
+     * @throws ArtsException If the date string is not a date and time the parser understands.
      */
     private LocalDateTime parseDate(String dateString) throws ArtsException {
         assert dateString != null && !dateString.isEmpty() : "Date string cannot be null or empty";
 
-        for (DateTimeFormatter formatter : inputFormatters) {
-            try {
-                return LocalDateTime.parse(dateString, formatter);
-            } catch (DateTimeParseException e) {
-                // Continue trying with the next formatter
-            }
+        LocalDateTime date = dateParser.parseDateTime(dateString);
+        if (date == null) {
+            throw new ArtsException(DateParser.FORMAT_ERROR_MESSAGE);
         }
-        throw new ArtsException(DATE_FORMAT_ERROR_MESSAGE);
+        return date;
     }
 }
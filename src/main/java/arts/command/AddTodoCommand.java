@@ -3,6 +3,7 @@ package arts.command;
 import arts.ArtsException;
 import arts.task.TaskList;
 import arts.task.Todo;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -16,24 +17,22 @@ public class AddTodoCommand implements Command {
     private final TaskList tasks;
     private final Storage storage;
     private final Ui ui;
-    private final String description;
 
     /**
-     * Constructs an AddTodoCommand with the specified task list, storage, UI, and task description.
+     * Constructs an AddTodoCommand with the specified task list, storage, and UI.
      *
      * @param tasks The list of tasks.
      * @param storage The storage used to save tasks.
      * @param ui The user interface for displaying messages.
-     * @param description The description of the todo task to be added.
      */
-    public AddTodoCommand(TaskList tasks, Storage storage, Ui ui, String description) throws ArtsException {
-        if (tasks == null || storage == null || ui == null || description == null || description.trim().isEmpty()) {
-            throw new ArtsException("Invalid input parameters");
-        }
+    public AddTodoCommand(TaskList tasks, Storage storage, Ui ui) {
+        assert tasks != null : "TaskList cannot be null";
+        assert storage != null : "Storage cannot be null";
+        assert ui != null : "Ui cannot be null";
+
         this.tasks = tasks;
         this.storage = storage;
         this.ui = ui;
-        this.description = normalizeSpaces(description);
     }
 
 
@@ -42,33 +41,37 @@ public class AddTodoCommand implements Command {
      * adds the task to the task list, saves the updated task list to storage, and returns
      * a confirmation message.
      *
+     * @param command The parsed input, whose arguments are the description of the todo.
      * @throws ArtsException If the task description is empty or invalid.
      */
     @Override
-    public String execute() throws ArtsException {
-        if (description == null || description.trim().isEmpty()) {
+    public String execute(ParsedCommand command) throws ArtsException {
+        String description = normalizeSpaces(command.getArguments());
+        if (description.isEmpty()) {
             throw new ArtsException(EMPTY_DESCRIPTION_ERROR_MESSAGE);
         }
 
         Todo newTodo = new Todo(description);
 
-        if (tasks.contains(newTodo)) {
-            throw new ArtsException(DUPLICATE_TODO_MESSAGE);
-        }
+        return tasks.update(() -> {
+            if (tasks.contains(newTodo)) {
+                throw new ArtsException(DUPLICATE_TODO_MESSAGE);
+            }
 
-        tasks.addTask(newTodo);
+            tasks.addTask(newTodo);
 
-        try {
-            storage.save(tasks.getTasks());
-        } catch (Exception e) {
-            throw new ArtsException("Failed to save tasks: " + e.getMessage());
-        }
+            try {
+                storage.saveAdd(newTodo, tasks.getTasks());
+            } catch (Exception e) {
+                throw new ArtsException("Failed to save tasks: " + e.getMessage());
+            }
 
-        return String.format("Hooray! 🎊 A new adventure awaits with this task:\n✨ %s ✨\n"
-                        + "Your quest now has %d %s to conquer! Keep shining, champion! 🌟",
-                tasks.getTask(tasks.size() - 1),
-                tasks.size(),
-                tasks.size() == 1 ? "task" : "tasks");
+            return String.format("Hooray! 🎊 A new adventure awaits with this task:\n✨ %s ✨\n"
+                            + "Your quest now has %d %s to conquer! Keep shining, champion! 🌟",
+                    tasks.getTask(tasks.size() - 1),
+                    tasks.size(),
+                    tasks.size() == 1 ? "task" : "tasks");
+        });
     }
 
 
@@ -1,12 +1,16 @@
 package arts.command;
 
 import arts.ArtsException;
+import arts.util.ParsedCommand;
 
 /**
  * Represents a command that can be executed, potentially throwing an ArtsException.
  * This interface is intended to be implemented by classes that encapsulate specific
  * commands or actions within the application.
+ * A command is created once, with the task list and other parts it works on, and is then executed for every
+ * input that names it, so it must not keep any state from one execution to the next.
  */
+@FunctionalInterface
 public interface Command {
 
     /**
@@ -14,8 +18,9 @@ public interface Command {
      * actions that occur when the command is run. This method may throw an ArtsException
      * if the command cannot be executed successfully.
      *
+     * @param command The parsed input, holding the arguments given to the command.
+     * @return The response to show the user.
      * @throws ArtsException If an error occurs during the execution of the command.
      */
-    String execute() throws ArtsException;
+    String execute(ParsedCommand command) throws ArtsException;
 }
-
@@ -0,0 +1,23 @@
+package arts.command;
+
+import arts.task.TaskList;
+import arts.util.Storage;
+import arts.util.Ui;
+
+/**
+ * Represents a provider of extra commands. Every plugin on the class path that is listed in
+ * {@code META-INF/services/arts.command.CommandPlugin} is asked to register its commands when an Arts
+ * instance is created, after the built-in commands, so a plugin can also replace a built-in command.
+ */
+public interface CommandPlugin {
+
+    /**
+     * Registers this plugin's commands, created to work on the given task list.
+     *
+     * @param registry The registry to add the commands to.
+     * @param tasks The list of tasks the commands work on.
+     * @param storage The storage used to save tasks.
+     * @param ui The user interface for displaying messages.
+     */
+    void registerCommands(CommandRegistry registry, TaskList tasks, Storage storage, Ui ui);
+}
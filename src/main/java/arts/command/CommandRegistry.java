@@ -0,0 +1,90 @@
+package arts.command;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import arts.enums.CommandType;
+import arts.util.Parser;
+
+/**
+ * Represents the commands an Arts instance understands, each registered once under a name with the keywords
+ * that invoke it. Commands are looked up by the name in the {@link arts.util.ParsedCommand} that the registry's
+ * parser produces, so new commands, such as those of a {@link CommandPlugin}, can be added without changing
+ * the code that dispatches them. Registering a command under a name that is already used replaces the old one.
+ * Commands are expected to be registered before the registry is used.
+ */
+public class CommandRegistry {
+    private final Map<String, Command> commands = new ConcurrentHashMap<>();
+    private final Map<String, String[]> keywords = new LinkedHashMap<>();
+    private final Map<String, String> namesByKeyword = new HashMap<>();
+    private Parser parser;
+
+    /**
+     * Registers a built-in command under its type's name and keywords.
+     *
+     * @param type The type of the command.
+     * @param command The command to execute for that type.
+     */
+    public void register(CommandType type, Command command) {
+        register(type.name(), command, type.getKeywords());
+    }
+
+    /**
+     * Registers a command under the given name and keywords.
+     *
+     * @param name The name of the command, which is also the command type reported for it.
+     * @param command The command to execute.
+     * @param commandKeywords The keywords that invoke the command, in lower case. Words are separated by spaces.
+     * @throws IllegalArgumentException If no keyword is given, or a keyword is used by another command.
+     */
+    public synchronized void register(String name, Command command, String... commandKeywords) {
+        assert name != null && !name.isEmpty() : "Command name cannot be null or empty";
+        assert command != null : "Command cannot be null";
+        if (commandKeywords.length == 0) {
+            throw new IllegalArgumentException("Command " + name + " needs at least one keyword");
+        }
+        for (String keyword : commandKeywords) {
+            String owner = namesByKeyword.get(keyword);
+            if (owner != null && !owner.equals(name)) {
+                throw new IllegalArgumentException("Keyword '" + keyword + "' is already used by " + owner);
+            }
+        }
+
+        String[] replaced = keywords.put(name, commandKeywords.clone());
+        if (replaced != null) {
+            for (String keyword : replaced) {
+                namesByKeyword.remove(keyword);
+            }
+        }
+        for (String keyword : commandKeywords) {
+            namesByKeyword.put(keyword, name);
+        }
+        commands.put(name, command);
+        parser = null;
+    }
+
+    /**
+     * Returns the command registered under the given name.
+     *
+     * @param name The name of the command.
+     * @return The command, or null if none is registered under that name.
+     */
+    public Command get(String name) {
+        return commands.get(name);
+    }
+
+    /**
+     * Returns a parser for the keywords of every registered command, built when it is first needed
+     * after a change.
+     *
+     * @return The parser.
+     */
+    public synchronized Parser getParser() {
+        if (parser == null) {
+            parser = new Parser(keywords);
+        }
+        return parser;
+    }
+}
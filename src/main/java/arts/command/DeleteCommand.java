@@ -3,6 +3,7 @@ package arts.command;
 import arts.ArtsException;
 import arts.task.Task;
 import arts.task.TaskList;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -17,26 +18,22 @@ public class DeleteCommand implements Command {
     private final TaskList tasks;
     private final Storage storage;
     private final Ui ui;
-    private final String taskIndex;
 
     /**
-     * Constructs a DeleteCommand with the specified task list, storage, UI, and task index.
+     * Constructs a DeleteCommand with the specified task list, storage, and UI.
      *
      * @param tasks The list of tasks.
      * @param storage The storage used to save tasks.
      * @param ui The user interface for displaying messages.
-     * @param taskIndex The index of the task to be deleted.
      */
-    public DeleteCommand(TaskList tasks, Storage storage, Ui ui, String taskIndex) {
+    public DeleteCommand(TaskList tasks, Storage storage, Ui ui) {
         assert tasks != null : "TaskList cannot be null";
         assert storage != null : "Storage cannot be null";
         assert ui != null : "Ui cannot be null";
-        assert taskIndex != null && !taskIndex.trim().isEmpty() : "Task index cannot be null or empty";
 
         this.tasks = tasks;
         this.storage = storage;
         this.ui = ui;
-        this.taskIndex = taskIndex.trim();
     }
 
     /**
@@ -44,32 +41,35 @@ public class DeleteCommand implements Command {
      * from the task list, saves the updated task list to storage, and displays a
      * confirmation message. Throws an exception if the task index is invalid.
      *
+     * @param command The parsed input, whose arguments are the index of the task.
      * @throws ArtsException If the task index is invalid or cannot be parsed.
      */
     @Override
-    public String execute() throws ArtsException {
+    public String execute(ParsedCommand command) throws ArtsException {
         int index;
         try {
-            index = Integer.parseInt(taskIndex) - 1;
+            index = Integer.parseInt(command.getArguments()) - 1;
         } catch (NumberFormatException e) {
             throw new ArtsException(TASK_INDEX_NOT_A_NUMBER_ERROR_MESSAGE);
         }
 
-        if (index < 0 || index >= tasks.size()) {
-            throw new ArtsException(TASK_INDEX_OUT_OF_BOUNDS_ERROR_MESSAGE);
-        }
+        return tasks.update(() -> {
+            if (index < 0 || index >= tasks.size()) {
+                throw new ArtsException(TASK_INDEX_OUT_OF_BOUNDS_ERROR_MESSAGE);
+            }
 
-        Task task = tasks.removeTask(index);
-        assert task != null : "Task removal should return a non-null task";
+            Task task = tasks.removeTask(index);
+            assert task != null : "Task removal should return a non-null task";
 
-        try {
-            storage.save(tasks.getTasks());
-        } catch (Exception e) {
-            throw new ArtsException(FILE_SAVE_ERROR_MESSAGE + " " + e.getMessage());
-        }
+            try {
+                storage.saveDelete(index, tasks.getTasks());
+            } catch (Exception e) {
+                throw new ArtsException(FILE_SAVE_ERROR_MESSAGE + " " + e.getMessage());
+            }
 
-        return String.format("Farewell, brave task! 🌸 You've been removed from the quest:\n💔 %s 💔\n"
-                        + "The journey continues with %d %s left. Keep going, warrior! 🗡️",
-                task, tasks.size(), tasks.size() == 1 ? "task" : "tasks");
+            return String.format("Farewell, brave task! 🌸 You've been removed from the quest:\n💔 %s 💔\n"
+                            + "The journey continues with %d %s left. Keep going, warrior! 🗡️",
+                    task, tasks.size(), tasks.size() == 1 ? "task" : "tasks");
+        });
     }
 }
@@ -0,0 +1,63 @@
+package arts.command;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import arts.ArtsException;
+import arts.task.Deadline;
+import arts.task.TaskList;
+import arts.util.DateParser;
+import arts.util.ParsedCommand;
+
+/**
+ * Represents a command to list the deadlines due on a given date, such as {@code due 2024-08-29}.
+ */
+public class DueCommand implements Command {
+
+    private final TaskList tasks;
+    private final DateParser dateParser;
+
+    /**
+     * Constructs a DueCommand with the specified task list and date parser.
+     *
+     * @param tasks The list of tasks to search within.
+     * @param dateParser The parser for the date.
+     */
+    public DueCommand(TaskList tasks, DateParser dateParser) {
+        assert tasks != null : "TaskList cannot be null";
+        assert dateParser != null : "DateParser cannot be null";
+
+        this.tasks = tasks;
+        this.dateParser = dateParser;
+    }
+
+    /**
+     * Executes the command, looking the date up in the task list's deadline index.
+     *
+     * @param command The parsed input, whose arguments are the date to list the deadlines of.
+     * @throws ArtsException If the date cannot be parsed.
+     */
+    @Override
+    public String execute(ParsedCommand command) throws ArtsException {
+        LocalDate dueDate = parseDate(command.getArguments());
+        List<Deadline> deadlines = tasks.getDeadlinesDueOn(dueDate);
+
+        if (deadlines.isEmpty()) {
+            return "🍃 Nothing is due on " + dueDate + ". Enjoy the calm, hero! 🍵";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < deadlines.size(); i++) {
+            deadlines.get(i).appendTo(sb.append(i + 1).append(". ")).append("\n");
+        }
+        return "⏳ Here is what's due on " + dueDate + ":\n" + sb
+                + "Face them with courage, brave adventurer! ⚔️";
+    }
+
+    private LocalDate parseDate(String dateString) throws ArtsException {
+        LocalDate date = dateParser.parseDate(dateString);
+        if (date == null) {
+            throw new ArtsException(DateParser.FORMAT_ERROR_MESSAGE);
+        }
+        return date;
+    }
+}
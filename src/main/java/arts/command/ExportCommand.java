@@ -0,0 +1,127 @@
+package arts.command;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.format.DateTimeFormatter;
+
+import arts.ArtsException;
+import arts.Cancellation;
+import arts.enums.TransferFormat;
+import arts.task.TaskList;
+import arts.util.ParsedCommand;
+import arts.util.TaskTransfer;
+
+/**
+ * Represents a command to write every task to a CSV or JSON Lines file, such as {@code export backup.csv}
+ * or {@code export tasks.jsonl}. The format is chosen by the file extension, and an existing file is replaced.
+ * Tasks are written one at a time through a fixed-size buffer, so a list of any size can be exported,
+ * including a paged task file that is not held in memory. They are written to a temporary file that only
+ * replaces the named file once every task is written, so a failed or cancelled export leaves it as it was.
+ */
+public class ExportCommand implements Command {
+    private static final int BUFFER_CHARS = 1 << 16;
+    private static final String WRITE_ERROR_MESSAGE = "Failed to write the file: ";
+
+    private final TaskList tasks;
+    private final DateTimeFormatter dateFormatter;
+    private final Path directory;
+
+    /**
+     * Constructs an ExportCommand with the specified task list and date formatter, which may write any file.
+     *
+     * @param tasks The list of tasks to export.
+     * @param dateFormatter The formatter for the tasks' dates, which should be one that import accepts.
+     */
+    public ExportCommand(TaskList tasks, DateTimeFormatter dateFormatter) {
+        this(tasks, dateFormatter, null);
+    }
+
+    /**
+     * Constructs an ExportCommand with the specified task list and date formatter, which only writes files
+     * inside the given directory.
+     *
+     * @param tasks The list of tasks to export.
+     * @param dateFormatter The formatter for the tasks' dates, which should be one that import accepts.
+     * @param directory The directory that files are written in, or null to allow any file.
+     */
+    public ExportCommand(TaskList tasks, DateTimeFormatter dateFormatter, Path directory) {
+        assert tasks != null : "TaskList cannot be null";
+        assert dateFormatter != null : "DateTimeFormatter cannot be null";
+
+        this.tasks = tasks;
+        this.dateFormatter = dateFormatter;
+        this.directory = directory;
+    }
+
+    /**
+     * Executes the command, writing the tasks while holding the task list's read lock so that the file
+     * shows the list at one moment.
+     *
+     * @param command The parsed input, whose arguments are the path of the file to write.
+     * @throws ArtsException If the file cannot be written or is outside the directory files are written in.
+     */
+    @Override
+    public String execute(ParsedCommand command) throws ArtsException {
+        String path = command.getArguments();
+        TransferFormat format = TaskTransfer.formatOf(path);
+        Path file = TaskTransfer.resolve(path, directory);
+        int count = tasks.read(() -> {
+            Path temp = null;
+            try {
+                Path folder = file.toAbsolutePath().getParent();
+                temp = Files.createTempFile(Files.createDirectories(folder), file.getFileName().toString(), ".tmp");
+                int size = write(temp, format);
+                moveIntoPlace(temp, file);
+                return size;
+            } catch (IOException e) {
+                throw new ArtsException(WRITE_ERROR_MESSAGE + e.getMessage());
+            } finally {
+                deleteQuietly(temp);
+            }
+        });
+        return "📜 Scroll sealed! I've exported " + count + (count == 1 ? " task" : " tasks") + " to " + path
+                + ". Safe travels, hero! 🌟";
+    }
+
+    private int write(Path temp, TransferFormat format) throws IOException {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(temp),
+                StandardCharsets.UTF_8), BUFFER_CHARS)) {
+            TaskTransfer.writeHeader(out, format);
+            int size = tasks.size();
+            for (int i = 0; i < size; i++) {
+                Cancellation.checkpoint();
+                TaskTransfer.write(tasks.getTask(i), out, format, dateFormatter);
+            }
+            return size;
+        }
+    }
+
+    private static void moveIntoPlace(Path temp, Path file) throws IOException {
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Removes the temporary file if it is still there, such as after a failed or cancelled export.
+     */
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            // Only a stray temporary file is left behind
+        }
+    }
+}
@@ -1,59 +1,53 @@
 package arts.command;
 
 import arts.ArtsException;
+import arts.Cancellation;
 import arts.task.Task;
 import arts.task.TaskList;
+import arts.util.ParsedCommand;
 
 /**
  * Represents a command to find tasks containing a specific keyword.
+ * Keywords match words in task descriptions by prefix, ignoring case, and several keywords
+ * must all match unless they are separated by OR. Matching tasks are listed in list order.
  */
 public class FindCommand implements Command {
     private static final String INVALID_KEYWORD_ERROR_MESSAGE = "Keyword cannot be null, "
             + "empty, or contain only special characters.";
 
     private final TaskList tasks;
-    private final String keyword;
 
     /**
-     * Constructs a FindCommand with the specified task list and keyword.
+     * Constructs a FindCommand with the specified task list.
      *
-     * @param tasks   The list of tasks to search within.
-     * @param keyword The keyword to search for in tasks.
+     * @param tasks The list of tasks to search within.
      */
-    public FindCommand(TaskList tasks, String keyword) {
+    public FindCommand(TaskList tasks) {
         assert tasks != null : "TaskList cannot be null";
 
-        if (keyword == null || keyword.trim().isEmpty() || !keyword.matches(".*\\w.*")) {
-            throw new IllegalArgumentException(INVALID_KEYWORD_ERROR_MESSAGE);
-        }
-
         this.tasks = tasks;
-        this.keyword = keyword.trim();
     }
 
     /**
-     * Executes the find command, searching for tasks that contain the keyword
-     * and returning them as a string.
+     * Executes the find command, looking up the keywords in the task list's word index
+     * and returning the matching tasks as a string.
      *
+     * @param command The parsed input, whose arguments are the keywords to search for.
      * @throws ArtsException If an error occurs during execution.
      */
     @Override
-    public String execute() throws ArtsException {
-        if (keyword == null || keyword.trim().isEmpty()) {
+    public String execute(ParsedCommand command) throws ArtsException {
+        String keyword = command.getArguments();
+        if (keyword.isEmpty() || !keyword.matches(".*\\w.*")) {
             throw new ArtsException(INVALID_KEYWORD_ERROR_MESSAGE);
         }
 
         StringBuilder sb = new StringBuilder();
         int count = 0;
 
-        for (int i = 0; i < tasks.size(); i++) {
-            Task task = tasks.getTask(i);
-            String taskString = task.toString();
-            assert taskString != null : "Task string representation should not be null";
-
-            if (taskString.contains(keyword)) {
-                sb.append(++count).append(". ").append(taskString).append("\n");
-            }
+        for (Task task : tasks.search(keyword)) {
+            Cancellation.checkpoint();
+            task.appendTo(sb.append(++count).append(". ")).append("\n");
         }
 
         assert count >= 0 : "Count of matching tasks should not be negative";
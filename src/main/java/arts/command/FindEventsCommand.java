@@ -0,0 +1,96 @@
+package arts.command;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import arts.ArtsException;
+import arts.task.Event;
+import arts.task.TaskList;
+import arts.util.DateParser;
+import arts.util.ParsedCommand;
+
+/**
+ * Represents a command to list the events on a given date or overlapping a given time range,
+ * such as {@code events /on 2024-08-29} or {@code events /from 2024-08-29 0900 /to 2024-08-30 1800}.
+ */
+public class FindEventsCommand implements Command {
+    private static final String USAGE_ERROR_MESSAGE =
+            "Please use events /on <date> or events /from <date time> /to <date time>.";
+    private static final String INVALID_RANGE_MESSAGE =
+            "The start of the range must not be after its end.";
+
+    private final TaskList tasks;
+    private final DateParser dateParser;
+
+    /**
+     * Constructs a FindEventsCommand with the specified task list and date parser.
+     *
+     * @param tasks The list of tasks to search within.
+     * @param dateParser The parser for the dates of the query.
+     */
+    public FindEventsCommand(TaskList tasks, DateParser dateParser) {
+        assert tasks != null : "TaskList cannot be null";
+        assert dateParser != null : "DateParser cannot be null";
+
+        this.tasks = tasks;
+        this.dateParser = dateParser;
+    }
+
+    /**
+     * Executes the command, looking the range up in the task list's event index.
+     *
+     * @param command The parsed input, whose arguments are either {@code /on <date>}
+     *     or {@code /from <date time> /to <date time>}.
+     * @throws ArtsException If the query is malformed or a date cannot be parsed.
+     */
+    @Override
+    public String execute(ParsedCommand command) throws ArtsException {
+        String details = command.getArguments();
+        List<Event> events;
+        String description;
+        if (details.startsWith("/on ")) {
+            LocalDate date = parseDate(details.substring("/on ".length()).trim());
+            events = tasks.getEventsOn(date);
+            description = "on " + date;
+        } else if (details.startsWith("/from ") && details.contains(" /to ")) {
+            int toIndex = details.indexOf(" /to ");
+            LocalDateTime start = parseDateTime(details.substring("/from ".length(), toIndex).trim());
+            LocalDateTime end = parseDateTime(details.substring(toIndex + " /to ".length()).trim());
+            if (start.isAfter(end)) {
+                throw new ArtsException(INVALID_RANGE_MESSAGE);
+            }
+            events = tasks.getEventsBetween(start, end);
+            description = "between " + details.substring("/from ".length(), toIndex).trim()
+                    + " and " + details.substring(toIndex + " /to ".length()).trim();
+        } else {
+            throw new ArtsException(USAGE_ERROR_MESSAGE);
+        }
+
+        if (events.isEmpty()) {
+            return "🌙 Your schedule is clear " + description + ". Time to rest, hero! 🍵";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < events.size(); i++) {
+            events.get(i).appendTo(sb.append(i + 1).append(". ")).append("\n");
+        }
+        return "📅 Here are your events " + description + ":\n" + sb
+                + "Onward to adventure, noble hero! 🌟";
+    }
+
+    private LocalDate parseDate(String dateString) throws ArtsException {
+        LocalDate date = dateParser.parseDate(dateString);
+        if (date == null) {
+            throw new ArtsException(DateParser.FORMAT_ERROR_MESSAGE);
+        }
+        return date;
+    }
+
+    private LocalDateTime parseDateTime(String dateString) throws ArtsException {
+        LocalDateTime date = dateParser.parseDateTime(dateString);
+        if (date == null) {
+            throw new ArtsException(DateParser.FORMAT_ERROR_MESSAGE);
+        }
+        return date;
+    }
+}
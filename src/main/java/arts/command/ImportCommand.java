@@ -0,0 +1,252 @@
+package arts.command;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import arts.ArtsException;
+import arts.Cancellation;
+import arts.enums.TransferFormat;
+import arts.task.Deadline;
+import arts.task.Event;
+import arts.task.Task;
+import arts.task.TaskList;
+import arts.task.Todo;
+import arts.util.DateParser;
+import arts.util.ParsedCommand;
+import arts.util.Storage;
+import arts.util.TaskTransfer;
+
+/**
+ * Represents a command to add every task in a CSV or JSON Lines file to the task list,
+ * such as {@code import backup.csv} or {@code import tasks.jsonl}. The format is chosen by the file extension.
+ * The file is read in chunks of a fixed number of records, and each chunk is checked for duplicates against
+ * the list in one pass and added, so a file of any size can be imported while only one chunk is in memory.
+ * Tasks that are already in the list, or that appear earlier in the file, are skipped, and records that
+ * are not valid tasks are counted and reported without stopping the import.
+ * The list is saved once, after the whole file has been read, and only if the import added tasks to it.
+ * An import can be cancelled until it first adds tasks to the list. From then on it runs to the end,
+ * so that it never keeps part of a file.
+ */
+public class ImportCommand implements Command {
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int BUFFER_CHARS = 1 << 16;
+    private static final int REPORTED_PROBLEMS = 5;
+    private static final String MISSING_FILE_MESSAGE = "There is no file at ";
+    private static final String READ_ERROR_MESSAGE = "Failed to read the file: ";
+
+    private final TaskList tasks;
+    private final Storage storage;
+    private final DateParser dateParser;
+    private final Path directory;
+
+    /**
+     * Constructs an ImportCommand with the specified task list, storage, and date parser, which may read any file.
+     *
+     * @param tasks The list of tasks to add to.
+     * @param storage The storage used to save tasks.
+     * @param dateParser The parser for the dates in the file.
+     */
+    public ImportCommand(TaskList tasks, Storage storage, DateParser dateParser) {
+        this(tasks, storage, dateParser, null);
+    }
+
+    /**
+     * Constructs an ImportCommand with the specified task list, storage, and date parser, which only reads files
+     * inside the given directory.
+     *
+     * @param tasks The list of tasks to add to.
+     * @param storage The storage used to save tasks.
+     * @param dateParser The parser for the dates in the file.
+     * @param directory The directory that files are read from, or null to allow any file.
+     */
+    public ImportCommand(TaskList tasks, Storage storage, DateParser dateParser, Path directory) {
+        assert tasks != null : "TaskList cannot be null";
+        assert storage != null : "Storage cannot be null";
+        assert dateParser != null : "DateParser cannot be null";
+
+        this.tasks = tasks;
+        this.storage = storage;
+        this.dateParser = dateParser;
+        this.directory = directory;
+    }
+
+    /**
+     * Executes the command, importing the file while holding the task list's write lock and saving the list
+     * once at the end if any task was added. Tasks added before the file fails to be read are kept and saved,
+     * while a file that cannot be found or opened leaves the task file untouched.
+     *
+     * @param command The parsed input, whose arguments are the path of the file to import.
+     * @throws ArtsException If the file cannot be found or read, is outside the directory files are read from,
+     *     or the list cannot be saved.
+     */
+    @Override
+    public String execute(ParsedCommand command) throws ArtsException {
+        String path = command.getArguments();
+        TransferFormat format = TaskTransfer.formatOf(path);
+        Path file = TaskTransfer.resolve(path, directory);
+        return tasks.update(() -> {
+            int added = 0;
+            int duplicates = 0;
+            int invalid = 0;
+            List<String> problems = new ArrayList<>();
+            try (TaskTransfer.RecordReader reader = new TaskTransfer.RecordReader(new BufferedReader(
+                    new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8),
+                    BUFFER_CHARS), format)) {
+                List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+                boolean isEnd = false;
+                while (!isEnd) {
+                    if (added == 0) {
+                        Cancellation.checkpoint();
+                    }
+                    String[] record;
+                    try {
+                        record = reader.next();
+                        isEnd = record == null;
+                        if (!isEnd) {
+                            chunk.add(toTask(record));
+                        }
+                    } catch (ArtsException e) {
+                        invalid++;
+                        if (problems.size() < REPORTED_PROBLEMS) {
+                            problems.add("Line " + reader.getRecordLine() + ": " + e.getMessage());
+                        }
+                    }
+                    if (chunk.size() == CHUNK_SIZE || isEnd && !chunk.isEmpty()) {
+                        int count = addAbsent(chunk, added > 0).size();
+                        added += count;
+                        duplicates += chunk.size() - count;
+                        chunk.clear();
+                    }
+                }
+            } catch (NoSuchFileException e) {
+                throw new ArtsException(MISSING_FILE_MESSAGE + path + ".");
+            } catch (IOException e) {
+                throw new ArtsException(READ_ERROR_MESSAGE + e.getMessage());
+            } finally {
+                if (added > 0) {
+                    save();
+                }
+            }
+            return report(path, added, duplicates, invalid, problems);
+        });
+    }
+
+    /**
+     * Saves the list with the tasks the import added, unless the import runs inside a batch of commands,
+     * which then saves them along with its other changes when it ends.
+     */
+    private void save() throws ArtsException {
+        storage.beginBatch();
+        storage.endBatch(tasks.getTasks());
+    }
+
+    /**
+     * Adds the tasks of a chunk that are not in the list yet. Once the import has changed the list, this ignores
+     * cancellation by running under a Cancellation of its own, which is never cancelled.
+     */
+    private List<Task> addAbsent(List<Task> chunk, boolean isChanged) {
+        if (!isChanged) {
+            return tasks.addAllAbsent(chunk);
+        }
+        return new Cancellation().run(() -> tasks.addAllAbsent(chunk));
+    }
+
+    private String report(String path, int added, int duplicates, int invalid, List<String> problems) {
+        StringBuilder sb = new StringBuilder("📦 Import complete! I've added ").append(added)
+                .append(added == 1 ? " task" : " tasks").append(" from ").append(path).append(".");
+        if (duplicates > 0) {
+            sb.append("\n").append(duplicates).append(duplicates == 1 ? " task was" : " tasks were")
+                    .append(" already in your list, so I skipped them.");
+        }
+        if (invalid > 0) {
+            sb.append("\n⚠️ ").append(invalid).append(invalid == 1 ? " record was" : " records were")
+                    .append(" not valid tasks:");
+            for (String problem : problems) {
+                sb.append("\n  ").append(problem);
+            }
+            if (invalid > problems.size()) {
+                sb.append("\n  ...and ").append(invalid - problems.size()).append(" more.");
+            }
+        }
+        return sb.append("\nYour quest now has ").append(tasks.size())
+                .append(tasks.size() == 1 ? " task" : " tasks").append(". Ganbatte! 💪").toString();
+    }
+
+    /**
+     * Converts a record read from the file into a task, checking every field.
+     */
+    private Task toTask(String[] record) throws ArtsException {
+        String type = record[TaskTransfer.TYPE];
+        String description = record[TaskTransfer.DESCRIPTION] == null
+                ? "" : record[TaskTransfer.DESCRIPTION].trim();
+        if (type == null) {
+            throw new ArtsException("The task type is missing.");
+        }
+        if (description.isEmpty()) {
+            throw new ArtsException("Task description cannot be empty.");
+        }
+        if (description.indexOf('\n') >= 0 || description.indexOf('\r') >= 0) {
+            throw new ArtsException("Task description cannot span several lines.");
+        }
+
+        Task task;
+        switch (type.trim().toLowerCase()) {
+        case "todo":
+            task = new Todo(description);
+            break;
+        case "deadline":
+            task = new Deadline(description, parseDate(record[TaskTransfer.BY], "by"));
+            break;
+        case "event":
+            LocalDateTime from = parseDate(record[TaskTransfer.FROM], "from");
+            LocalDateTime to = parseDate(record[TaskTransfer.TO], "to");
+            if (from.isAfter(to)) {
+                throw new ArtsException("The event starts after it ends.");
+            }
+            task = new Event(description, from, to);
+            break;
+        default:
+            throw new ArtsException("Unknown task type '" + type + "'.");
+        }
+        if (parseDone(record[TaskTransfer.DONE])) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    private static boolean parseDone(String done) throws ArtsException {
+        if (done == null) {
+            return false;
+        }
+        switch (done.trim().toLowerCase()) {
+        case "true":
+        case "1":
+            return true;
+        case "false":
+        case "0":
+        case "":
+            return false;
+        default:
+            throw new ArtsException("The done field must be true or false.");
+        }
+    }
+
+    private LocalDateTime parseDate(String dateString, String field) throws ArtsException {
+        if (dateString == null || dateString.isBlank()) {
+            throw new ArtsException("The '" + field + "' date is missing.");
+        }
+        LocalDateTime date = dateParser.parseDateTime(dateString);
+        if (date == null) {
+            throw new ArtsException(DateParser.FORMAT_ERROR_MESSAGE);
+        }
+        return date;
+    }
+}
@@ -0,0 +1,214 @@
+package arts.command;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import arts.ArtsException;
+import arts.task.TaskList;
+import arts.util.ParsedCommand;
+
+/**
+ * Represents a command to list the tasks. A bare {@code list}, like {@code list --all}, lists every task;
+ * the listing can be produced lazily in chunks of one page each, so that a long list is never held as one string.
+ * Giving a page or a page size, such as {@code list 3} or {@code list 2 --page-size 20}, lists that page only.
+ */
+public class ListCommand implements Command {
+    /** The number of tasks on a page, or in each chunk of a full listing, when no page size is given. */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    private static final String PAGE_SIZE_OPTION = "--page-size";
+    private static final String ALL_OPTION = "--all";
+    private static final String NO_TASKS_MESSAGE = "No tasks yet! Why not add some?";
+    private static final String TASK_LIST_HEADER = "Here are the tasks in your list:\n";
+    private static final String USAGE_ERROR_MESSAGE =
+            "Please use list, list <page>, list --page-size <size> or list --all.";
+
+    private final TaskList tasks;
+
+    /**
+     * Represents the options given to one execution of the command.
+     */
+    private static class Options {
+        private int page = 1;
+        private int pageSize = DEFAULT_PAGE_SIZE;
+        private boolean isAll = true;
+    }
+
+    /**
+     * Constructs a ListCommand with the specified task list.
+     *
+     * @param tasks The list of tasks to display.
+     */
+    public ListCommand(TaskList tasks) {
+        assert tasks != null : "TaskList cannot be null";
+
+        this.tasks = tasks;
+    }
+
+    private static Options parseOptions(String arguments) throws ArtsException {
+        Options options = new Options();
+        if (arguments.isEmpty()) {
+            return options;
+        }
+        String[] words = arguments.split("\\s+");
+        boolean hasAll = false;
+        boolean hasPage = false;
+        boolean hasPageSize = false;
+        for (int i = 0; i < words.length; i++) {
+            if (words[i].equalsIgnoreCase(ALL_OPTION)) {
+                hasAll = true;
+            } else if (words[i].equalsIgnoreCase(PAGE_SIZE_OPTION) && i + 1 < words.length) {
+                options.pageSize = parsePositive(words[++i]);
+                hasPageSize = true;
+            } else if (!hasPage) {
+                options.page = parsePositive(words[i]);
+                hasPage = true;
+            } else {
+                throw new ArtsException(USAGE_ERROR_MESSAGE);
+            }
+        }
+        if (hasAll && hasPage) {
+            throw new ArtsException(USAGE_ERROR_MESSAGE);
+        }
+        // Only a page or a page size on its own asks for a single page; with --all the size sets the chunks
+        options.isAll = hasAll || !hasPage && !hasPageSize;
+        return options;
+    }
+
+    private static int parsePositive(String word) throws ArtsException {
+        try {
+            int value = Integer.parseInt(word);
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below along with non-positive numbers
+        }
+        throw new ArtsException(USAGE_ERROR_MESSAGE);
+    }
+
+    /**
+     * Returns whether the given input lists every task rather than a single page.
+     *
+     * @param command The parsed input.
+     * @return true if every task is listed, as for a bare {@code list}, or false if a single page is listed
+     *     or the arguments are not understood.
+     */
+    public boolean isAll(ParsedCommand command) {
+        try {
+            return parseOptions(command.getArguments()).isAll;
+        } catch (ArtsException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Executes the command, returning every task for a bare {@code list} or {@code list --all},
+     * or the requested page when a page or a page size is given.
+     * A page is followed by a hint for reaching the next one when the list has more than one page.
+     *
+     * @param command The parsed input, whose arguments are an optional page number,
+     *     {@code --page-size <size>} and {@code --all}, in any order.
+     * @throws ArtsException If the arguments are not understood or the requested page does not exist.
+     */
+    @Override
+    public String execute(ParsedCommand command) throws ArtsException {
+        Options options = parseOptions(command.getArguments());
+        if (options.isAll) {
+            StringBuilder sb = new StringBuilder();
+            streamAll(options.pageSize).forEachRemaining(sb::append);
+            return sb.toString();
+        }
+        return tasks.read(() -> getPage(options));
+    }
+
+    private String getPage(Options options) throws ArtsException {
+        if (tasks.isEmpty()) {
+            return NO_TASKS_MESSAGE;
+        }
+        int page = options.page;
+        int pageSize = options.pageSize;
+        int pageCount = (tasks.size() + pageSize - 1) / pageSize;
+        if (page > pageCount) {
+            throw new ArtsException("There is no page " + page + ". Your list has " + pageCount
+                    + (pageCount == 1 ? " page." : " pages."));
+        }
+        int start = (page - 1) * pageSize;
+        StringBuilder sb = new StringBuilder(TASK_LIST_HEADER);
+        appendTasks(sb, start, Math.min(start + pageSize, tasks.size()));
+        if (pageCount > 1) {
+            sb.append("📖 Page ").append(page).append(" of ").append(pageCount).append(".");
+            if (page < pageCount) {
+                sb.append(" Type 'list ").append(page + 1);
+                if (pageSize != DEFAULT_PAGE_SIZE) {
+                    // The next page only lines up with this one if it is asked for with the same size
+                    sb.append(' ').append(PAGE_SIZE_OPTION).append(' ').append(pageSize);
+                }
+                sb.append("' to turn the page, hero!");
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the response as a sequence of chunks. When every task is listed, the listing is
+     * produced as chunks of one page each, starting from the header. Each chunk is only built when it is asked
+     * for, while holding the task list's read lock, and the size of the list is checked again for every chunk,
+     * so the listing ends early rather than failing if tasks are deleted between chunks.
+     * A single page is one chunk. Joined together, the chunks are the same as the result of
+     * {@link #execute(ParsedCommand)}.
+     *
+     * @param command The parsed input, holding the same arguments as for {@link #execute(ParsedCommand)}.
+     * @return An iterator over the chunks of the response.
+     * @throws ArtsException If the arguments are not understood or the requested page does not exist.
+     */
+    public Iterator<String> stream(ParsedCommand command) throws ArtsException {
+        Options options = parseOptions(command.getArguments());
+        if (options.isAll) {
+            return streamAll(options.pageSize);
+        }
+        return List.of(tasks.read(() -> getPage(options))).iterator();
+    }
+
+    private Iterator<String> streamAll(int pageSize) {
+        return new Iterator<>() {
+            private int next;
+            private boolean isStarted;
+
+            @Override
+            public boolean hasNext() {
+                return !isStarted || next < tasks.size();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tasks.read(this::nextChunk);
+            }
+
+            private String nextChunk() {
+                StringBuilder sb = new StringBuilder();
+                if (!isStarted) {
+                    isStarted = true;
+                    if (tasks.isEmpty()) {
+                        return NO_TASKS_MESSAGE;
+                    }
+                    sb.append(TASK_LIST_HEADER);
+                }
+                int end = Math.min(next + pageSize, tasks.size());
+                appendTasks(sb, next, end);
+                next = end;
+                return sb.toString();
+            }
+        };
+    }
+
+    private void appendTasks(StringBuilder sb, int start, int end) {
+        for (int i = start; i < end; i++) {
+            tasks.getTask(i).appendTo(sb.append(i + 1).append(". ")).append("\n");
+        }
+    }
+}
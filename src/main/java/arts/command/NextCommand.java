@@ -0,0 +1,72 @@
+package arts.command;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import arts.ArtsException;
+import arts.task.Deadline;
+import arts.task.TaskList;
+import arts.util.ParsedCommand;
+
+/**
+ * Represents a command to list the next deadlines that are not done yet, such as {@code next 3}.
+ * Without a number, the next five deadlines are listed.
+ */
+public class NextCommand implements Command {
+    private static final int DEFAULT_COUNT = 5;
+    private static final String INVALID_COUNT_MESSAGE = "Please provide a positive number of deadlines to show.";
+
+    private final TaskList tasks;
+    private final Clock clock;
+
+    /**
+     * Constructs a NextCommand with the specified task list and clock.
+     *
+     * @param tasks The list of tasks to search within.
+     * @param clock The clock giving the time to look ahead from.
+     */
+    public NextCommand(TaskList tasks, Clock clock) {
+        assert tasks != null : "TaskList cannot be null";
+        assert clock != null : "Clock cannot be null";
+
+        this.tasks = tasks;
+        this.clock = clock;
+    }
+
+    /**
+     * Executes the command, reading the upcoming deadlines from the task list's deadline index.
+     *
+     * @param command The parsed input, whose arguments are the number of deadlines to list, if any.
+     * @throws ArtsException If the count is not a positive number.
+     */
+    @Override
+    public String execute(ParsedCommand command) throws ArtsException {
+        List<Deadline> deadlines = tasks.getNextDeadlines(LocalDateTime.now(clock), parseCount(command.getArguments()));
+
+        if (deadlines.isEmpty()) {
+            return "🍃 No upcoming deadlines. Enjoy the calm, hero! 🍵";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < deadlines.size(); i++) {
+            deadlines.get(i).appendTo(sb.append(i + 1).append(". ")).append("\n");
+        }
+        return "⏳ Here are your next deadlines:\n" + sb
+                + "Face them with courage, brave adventurer! ⚔️";
+    }
+
+    private static int parseCount(String count) throws ArtsException {
+        if (count.isEmpty()) {
+            return DEFAULT_COUNT;
+        }
+        try {
+            int value = Integer.parseInt(count);
+            if (value <= 0) {
+                throw new ArtsException(INVALID_COUNT_MESSAGE);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new ArtsException(INVALID_COUNT_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package arts.command;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import arts.ArtsException;
+import arts.task.Deadline;
+import arts.task.TaskList;
+import arts.util.ParsedCommand;
+
+/**
+ * Represents a command to list the deadlines that have passed without being done.
+ */
+public class OverdueCommand implements Command {
+    private final TaskList tasks;
+    private final Clock clock;
+
+    /**
+     * Constructs an OverdueCommand with the specified task list and clock.
+     *
+     * @param tasks The list of tasks to search within.
+     * @param clock The clock giving the current time.
+     */
+    public OverdueCommand(TaskList tasks, Clock clock) {
+        assert tasks != null : "TaskList cannot be null";
+        assert clock != null : "Clock cannot be null";
+
+        this.tasks = tasks;
+        this.clock = clock;
+    }
+
+    /**
+     * Executes the command, reading the overdue deadlines from the task list's deadline index.
+     *
+     * @param command The parsed input, which has no arguments.
+     * @throws ArtsException If an error occurs during execution.
+     */
+    @Override
+    public String execute(ParsedCommand command) throws ArtsException {
+        List<Deadline> deadlines = tasks.getOverdueDeadlines(LocalDateTime.now(clock));
+
+        if (deadlines.isEmpty()) {
+            return "🏆 Nothing is overdue. You're right on schedule, champion! 🌟";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < deadlines.size(); i++) {
+            deadlines.get(i).appendTo(sb.append(i + 1).append(". ")).append("\n");
+        }
+        return "⚠️ These deadlines have slipped past:\n" + sb
+                + "There's still time to turn the tide, hero! 💪";
+    }
+}
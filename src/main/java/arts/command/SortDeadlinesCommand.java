@@ -1,13 +1,9 @@
 package arts.command;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import arts.ArtsException;
-import arts.task.Deadline;
-import arts.task.Task;
 import arts.task.TaskList;
+import arts.util.Journal;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -17,6 +13,8 @@ import arts.util.Ui;
  * Represents a command to sort deadline tasks chronologically.
  */
 public class SortDeadlinesCommand implements Command {
+    private static final String UNSORTABLE_MESSAGE = "This task list is too large to be sorted in memory.";
+
     private final TaskList tasks;
     private final Storage storage;
     private final Ui ui;
@@ -41,31 +39,20 @@ public class SortDeadlinesCommand implements Command {
     /**
      * Executes the command to sort deadline tasks chronologically.
      *
+     * @param command The parsed input, which has no arguments.
      * @throws ArtsException If any error occurs during sorting or saving.
      */
     @Override
-    public String execute() throws ArtsException {
-        ArrayList<Task> allTasks = tasks.getTasks();
-
-        List<Deadline> sortedDeadlines = allTasks.stream()
-                .filter(task -> task instanceof Deadline)
-                .map(task -> (Deadline) task)
-                .sorted((d1, d2) -> d1.getBy().compareTo(d2.getBy()))
-                .collect(Collectors.toList());
-
-        // Collect other types of tasks that are not deadlines
-        List<Task> otherTasks = allTasks.stream()
-                .filter(task -> !(task instanceof Deadline))
-                .collect(Collectors.toList());
-
-        // Combine the sorted deadlines with the other tasks
-        ArrayList<Task> combinedTasks = new ArrayList<>(sortedDeadlines);
-        combinedTasks.addAll(otherTasks);
-
-        tasks.getTasks().clear();
-        tasks.getTasks().addAll(combinedTasks);
-
-        storage.save(tasks.getTasks());
+    public String execute(ParsedCommand command) throws ArtsException {
+        if (!tasks.isIndexed()) {
+            throw new ArtsException(UNSORTABLE_MESSAGE);
+        }
+        tasks.update(() -> {
+            if (tasks.sortDeadlines()) {
+                storage.saveReorder(Journal.REORDER_DEADLINES, tasks.getTasks());
+            }
+            return null;
+        });
 
         return "✨ Behold! The deadlines have been aligned in perfect harmony! 📅✨\n"
                 + "Your journey through time is now clearer, brave adventurer! 🌟";
@@ -1,13 +1,9 @@
 package arts.command;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import arts.ArtsException;
-import arts.task.Event;
-import arts.task.Task;
 import arts.task.TaskList;
+import arts.util.Journal;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -17,6 +13,8 @@ import arts.util.Ui;
  * Represents a command to sort event tasks by their start date.
  */
 public class SortEventsCommand implements Command {
+    private static final String UNSORTABLE_MESSAGE = "This task list is too large to be sorted in memory.";
+
     private final TaskList tasks;
     private final Storage storage;
     private final Ui ui;
@@ -41,31 +39,19 @@ public class SortEventsCommand implements Command {
     /**
      * Executes the command to sort event tasks by their start date.
      *
+     * @param command The parsed input, which has no arguments.
      * @throws ArtsException If any error occurs during sorting or saving.
      */
     @Override
-    public String execute() throws ArtsException {
-        ArrayList<Task> allTasks = tasks.getTasks();
-
-        List<Event> sortedEvents = allTasks.stream()
-                .filter(task -> task instanceof Event)
-                .map(task -> (Event) task)
-                .sorted((e1, e2) -> e1.getFrom().compareTo(e2.getFrom()))
-                .collect(Collectors.toList());
-
-        // Collect other types of tasks that are not events
-        List<Task> otherTasks = allTasks.stream()
-                .filter(task -> !(task instanceof Event))
-                .collect(Collectors.toList());
-
-        // Combine the sorted events with the other tasks
-        ArrayList<Task> combinedTasks = new ArrayList<>(sortedEvents);
-        combinedTasks.addAll(otherTasks);
-
-        tasks.getTasks().clear();
-        tasks.getTasks().addAll(combinedTasks);
-
-        storage.save(tasks.getTasks());
+    public String execute(ParsedCommand command) throws ArtsException {
+        if (!tasks.isIndexed()) {
+            throw new ArtsException(UNSORTABLE_MESSAGE);
+        }
+        tasks.update(() -> {
+            tasks.sortEvents();
+            storage.saveReorder(Journal.REORDER_EVENTS, tasks.getTasks());
+            return null;
+        });
 
         return "✨ The stars have aligned, and your events are now sorted by time! ⏰✨\n"
                 + "Embark on your epic journey with clarity and purpose, noble hero! 🌟";
@@ -6,17 +6,40 @@ package arts.enums;
  * within the application, such as exiting the program, listing tasks,
  * marking tasks as done or not done, deleting tasks, and adding different
  * types of tasks like todo, deadline, and event.
+ * Each type has the keywords that invoke it: its name in lower case, with words separated by spaces,
+ * followed by any aliases.
  */
 public enum CommandType {
-    BYE,
-    LIST,
-    MARK,
-    UNMARK,
-    DELETE,
-    TODO,
-    DEADLINE,
-    EVENT,
-    FIND,
-    SORT_DEADLINES,
-    SORT_EVENTS
+    BYE("bye", "exit", "quit"),
+    LIST("list", "ls"),
+    MARK("mark"),
+    UNMARK("unmark"),
+    DELETE("delete", "rm"),
+    TODO("todo"),
+    DEADLINE("deadline", "dl"),
+    EVENT("event"),
+    FIND("find"),
+    SORT_DEADLINES("sort deadlines", "sort_deadlines"),
+    SORT_EVENTS("sort events", "sort_events"),
+    EVENTS("events"),
+    DUE("due"),
+    NEXT("next"),
+    OVERDUE("overdue"),
+    IMPORT("import"),
+    EXPORT("export");
+
+    private final String[] keywords;
+
+    CommandType(String... keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the keywords that invoke this type of command, starting with its main one.
+     *
+     * @return The keywords, in lower case.
+     */
+    public String[] getKeywords() {
+        return keywords.clone();
+    }
 }
@@ -0,0 +1,11 @@
+package arts.enums;
+
+/**
+ * Represents the formats in which the task file can be written.
+ * TEXT is the human-readable pipe-delimited format, and BINARY is a compact versioned format
+ * that is smaller on disk and faster to load.
+ */
+public enum StorageFormat {
+    TEXT,
+    BINARY
+}
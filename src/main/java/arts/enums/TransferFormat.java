@@ -0,0 +1,10 @@
+package arts.enums;
+
+/**
+ * Represents the formats in which tasks can be imported and exported.
+ * CSV has a header row followed by one row per task, and JSONL has one JSON object per line.
+ */
+public enum TransferFormat {
+    CSV,
+    JSONL
+}
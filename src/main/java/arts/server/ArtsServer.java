@@ -0,0 +1,500 @@
+package arts.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import arts.Arts;
+import arts.ArtsException;
+import arts.util.Storage;
+
+/**
+ * Represents a headless server that lets many users use Arts at once over a line-based TCP protocol.
+ * <p>
+ * A client first sends its user name on a line of its own, then one command per line, exactly as it would
+ * type them into Arts. Every response is sent as one or more lines followed by a line holding a single
+ * {@code .}; a response line that starts with {@code .} is sent with an extra {@code .} in front of it.
+ * Sending {@code bye} ends the connection. The server only listens on the loopback address, since clients
+ * are not authenticated and can be anyone who can reach the port.
+ * <p>
+ * Each user's tasks are kept in their own file in the data directory and loaded into a {@link Session}
+ * on first use. A file that cannot be loaded is reported to the user and tried again on their next command,
+ * rather than replaced by an empty list. Sessions unused for longer than the idle timeout are evicted.
+ * Files a user imports or exports are kept in a folder named after them in the data directory, and no other
+ * files can be reached.
+ * Connections are served by a single selector thread, and commands run on a small pool of worker threads,
+ * one command at a time for each connection, so thousands of mostly idle connections cost no threads of their own.
+ */
+public class ArtsServer {
+    /** The port the server listens on when none is given. */
+    public static final int DEFAULT_PORT = 4242;
+
+    private static final String DEFAULT_DATA_DIRECTORY = "./data/users";
+    private static final long DEFAULT_IDLE_MINUTES = 30;
+    private static final Pattern USER_NAME = Pattern.compile("[A-Za-z0-9_-]{1,32}");
+    private static final String TERMINATOR = ".";
+    private static final int READ_BUFFER_BYTES = 8192;
+    private static final int MAX_LINE_BYTES = 64 * 1024;
+    private static final int COMMANDS_PER_TURN = 16;
+    private static final ByteBuffer HANG_UP = ByteBuffer.allocate(0);
+
+    private static final String WELCOME_MESSAGE = "Hello! I'm Arts. Please send your user name to begin.";
+    private static final String INVALID_USER_MESSAGE =
+            "OOPS!!! A user name is 1 to 32 letters, digits, dashes or underscores. Please try again.";
+    private static final String LINE_TOO_LONG_MESSAGE = "OOPS!!! That line is too long. Goodbye!";
+    private static final String GOODBYE_MESSAGE = "Bye! Hope to see you again soon!";
+    private static final String UNEXPECTED_ERROR_MESSAGE = "An unexpected error occurred: ";
+    private static final String LOAD_ERROR_MESSAGE = "OOPS!!! Your tasks could not be loaded. Please try again: ";
+
+    private final Path dataDirectory;
+    private final long idleTimeoutMillis;
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService evictor;
+    // Each user's session, completed once their task file has been loaded
+    private final ConcurrentHashMap<String, CompletableFuture<Session>> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Connection> writable = new ConcurrentLinkedQueue<>();
+    private volatile boolean isRunning = true;
+    private volatile boolean isServing;
+
+    /**
+     * Represents one client connection, with the bytes of its unfinished line, the commands waiting to run
+     * and the responses waiting to be sent.
+     */
+    private static class Connection {
+        private final SocketChannel channel;
+        private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+        private final ArrayDeque<String> commands = new ArrayDeque<>();
+        // Responses waiting to be sent, possibly ending with HANG_UP once the connection is to be closed
+        private final ConcurrentLinkedQueue<ByteBuffer> responses = new ConcurrentLinkedQueue<>();
+        private boolean isScheduled;
+        private volatile boolean isClosing;
+        private String user;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Queues a command, returning true if the connection needs a worker to run it.
+         */
+        synchronized boolean enqueue(String command) {
+            commands.add(command);
+            if (isScheduled) {
+                return false;
+            }
+            isScheduled = true;
+            return true;
+        }
+
+        /**
+         * Returns the next command, or null after marking the connection as no longer scheduled.
+         */
+        synchronized String poll() {
+            String command = commands.poll();
+            if (command == null) {
+                isScheduled = false;
+            }
+            return command;
+        }
+    }
+
+    /**
+     * Constructs an ArtsServer listening on the given port of the loopback address.
+     * Call {@link #run()} to start serving.
+     *
+     * @param port The port to listen on, or 0 to pick a free one.
+     * @param dataDirectory The directory holding a task file for each user, created if missing.
+     * @param workerCount The number of threads that run commands.
+     * @param idleTimeoutMillis How long a session may go unused before it is evicted, in milliseconds.
+     * @throws IOException If the data directory cannot be created or the port cannot be bound.
+     */
+    public ArtsServer(int port, Path dataDirectory, int workerCount, long idleTimeoutMillis) throws IOException {
+        assert dataDirectory != null : "Data directory cannot be null";
+        assert workerCount > 0 : "At least one worker is needed";
+        assert idleTimeoutMillis > 0 : "Idle timeout must be positive";
+        this.dataDirectory = Files.createDirectories(dataDirectory);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "arts-server-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "arts-server-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionPeriod = Math.max(1, idleTimeoutMillis / 2);
+        evictor.scheduleAtFixedRate(() -> evictIdleSessions(System.currentTimeMillis()),
+                evictionPeriod, evictionPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return The local port.
+     * @throws IOException If the port cannot be read.
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Returns the number of users whose tasks are loaded.
+     *
+     * @return The number of sessions.
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Serves connections on the calling thread until {@link #close()} is called.
+     *
+     * @throws IOException If the selector fails.
+     */
+    public void run() throws IOException {
+        isServing = true;
+        try {
+            serve();
+        } finally {
+            closeChannels();
+        }
+    }
+
+    private void serve() throws IOException {
+        while (isRunning) {
+            selector.select();
+            Connection connection;
+            while ((connection = writable.poll()) != null) {
+                SelectionKey key = connection.channel.keyFor(selector);
+                if (key != null && key.isValid()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                }
+            }
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                try {
+                    if (key.isAcceptable()) {
+                        accept();
+                    }
+                    if (key.isValid() && key.isReadable()) {
+                        read(key);
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        write(key);
+                    }
+                } catch (IOException e) {
+                    close(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops serving. Commands that are running finish, but their responses are not sent.
+     * The connections are closed by the thread running {@link #run()}, or here if the server never ran.
+     */
+    public void close() {
+        isRunning = false;
+        evictor.shutdownNow();
+        workers.shutdown();
+        selector.wakeup();
+        if (!isServing) {
+            closeChannels();
+        }
+    }
+
+    private synchronized void closeChannels() {
+        if (!selector.isOpen()) {
+            return;
+        }
+        try {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            serverChannel.close();
+            selector.close();
+        } catch (IOException e) {
+            // Nothing more can be done while shutting down
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        Connection connection = new Connection(channel);
+        channel.register(selector, SelectionKey.OP_READ, connection);
+        respond(connection, WELCOME_MESSAGE);
+    }
+
+    /**
+     * Reads what the client has sent, queuing each complete line as a command.
+     */
+    private void read(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        int read = connection.channel.read(buffer);
+        if (read < 0) {
+            close(key);
+            return;
+        }
+        byte[] bytes = buffer.array();
+        int lineStart = 0;
+        for (int i = 0; i < read; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            connection.partialLine.write(bytes, lineStart, i - lineStart);
+            lineStart = i + 1;
+            String line = connection.partialLine.toString(StandardCharsets.UTF_8);
+            connection.partialLine.reset();
+            submit(connection, line.endsWith("\r") ? line.substring(0, line.length() - 1) : line);
+        }
+        connection.partialLine.write(bytes, lineStart, read - lineStart);
+        if (connection.partialLine.size() > MAX_LINE_BYTES) {
+            connection.partialLine.reset();
+            key.interestOps(0);
+            connection.isClosing = true;
+            respond(connection, LINE_TOO_LONG_MESSAGE);
+            hangUp(connection);
+        }
+    }
+
+    private void submit(Connection connection, String line) {
+        if (!connection.isClosing && connection.enqueue(line)) {
+            schedule(connection);
+        }
+    }
+
+    /**
+     * Hands the connection to a worker to run its queued commands. Once the server is closed, the workers
+     * take no more work, and the commands are dropped along with the connection.
+     */
+    private void schedule(Connection connection) {
+        try {
+            workers.execute(() -> runCommands(connection));
+        } catch (RejectedExecutionException e) {
+            // The server is closing, so the commands are never answered
+        }
+    }
+
+    /**
+     * Runs the commands queued on a connection in order. After a few commands the worker is handed back
+     * to the pool, so one busy connection cannot hold up the others.
+     */
+    private void runCommands(Connection connection) {
+        for (int i = 0; i < COMMANDS_PER_TURN; i++) {
+            String command = connection.poll();
+            if (command == null) {
+                return;
+            }
+            if (connection.isClosing) {
+                continue;
+            }
+            respond(connection, getResponse(connection, command.trim()));
+            if (connection.isClosing) {
+                hangUp(connection);
+            }
+        }
+        schedule(connection);
+    }
+
+    private String getResponse(Connection connection, String command) {
+        if (connection.user == null) {
+            if (!USER_NAME.matcher(command).matches()) {
+                return INVALID_USER_MESSAGE;
+            }
+            connection.user = command;
+            return "Welcome, " + command + "! What can I do for you today?";
+        }
+        try {
+            while (true) {
+                CompletableFuture<Session> loaded = loadSession(connection.user);
+                Session session = join(loaded);
+                Arts arts = session.acquire(System.currentTimeMillis());
+                if (arts == null) {
+                    // Evicted between the lookup and now, so load it again
+                    sessions.remove(connection.user, loaded);
+                    continue;
+                }
+                try {
+                    // Answered here rather than by the session, whose storage must stay open for the user's
+                    // other connections
+                    if (arts.isBye(command)) {
+                        connection.isClosing = true;
+                        return GOODBYE_MESSAGE;
+                    }
+                    return arts.getResponse(command);
+                } finally {
+                    session.release(System.currentTimeMillis());
+                }
+            }
+        } catch (ArtsException e) {
+            return LOAD_ERROR_MESSAGE + e.getMessage();
+        } catch (RuntimeException e) {
+            return UNEXPECTED_ERROR_MESSAGE + e.getMessage();
+        }
+    }
+
+    /**
+     * Returns the user's session, loading it first unless it is loaded already. Another connection of the user
+     * that asks meanwhile gets the same session once it has loaded. The file is read outside the map's locks,
+     * so loading one user's tasks never holds up the sessions of others. A failed load is forgotten before
+     * it completes, so the next command of the user tries again.
+     */
+    private CompletableFuture<Session> loadSession(String user) {
+        CompletableFuture<Session> loading = new CompletableFuture<>();
+        CompletableFuture<Session> existing = sessions.putIfAbsent(user, loading);
+        if (existing != null) {
+            return existing;
+        }
+        String filePath = dataDirectory.resolve(user + ".txt").toString();
+        try {
+            // Clients are not trusted with the file system, so import and export stay inside a folder of their own
+            Arts arts = new Arts(new Storage(filePath), dataDirectory.resolve(user));
+            loading.complete(new Session(arts, System.currentTimeMillis()));
+        } catch (ArtsException | RuntimeException e) {
+            sessions.remove(user, loading);
+            loading.completeExceptionally(e);
+        }
+        return loading;
+    }
+
+    /**
+     * Waits for a session that may still be loading, rethrowing the error if its load failed.
+     */
+    private static Session join(CompletableFuture<Session> loading) throws ArtsException {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ArtsException) {
+                throw (ArtsException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Evicts the sessions that have not been used within the idle timeout.
+     *
+     * @param now The current time, in milliseconds.
+     */
+    void evictIdleSessions(long now) {
+        for (Map.Entry<String, CompletableFuture<Session>> entry : sessions.entrySet()) {
+            // A session still loading is in use, and a failed load has already been removed
+            Session session = entry.getValue().getNow(null);
+            if (session != null && session.evictIfIdle(now, idleTimeoutMillis)) {
+                sessions.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Queues a response to be sent by the selector thread, as lines followed by the terminator line.
+     */
+    private void respond(Connection connection, String response) {
+        StringBuilder sb = new StringBuilder(response.length() + 8);
+        for (String line : response.stripTrailing().split("\n", -1)) {
+            if (line.startsWith(TERMINATOR)) {
+                sb.append(TERMINATOR);
+            }
+            sb.append(line).append('\n');
+        }
+        sb.append(TERMINATOR).append('\n');
+        connection.responses.add(ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        writable.add(connection);
+        selector.wakeup();
+    }
+
+    /**
+     * Closes the connection once every response queued before this call has been sent.
+     */
+    private void hangUp(Connection connection) {
+        connection.responses.add(HANG_UP);
+        writable.add(connection);
+        selector.wakeup();
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer buffer;
+        while ((buffer = connection.responses.peek()) != null) {
+            if (buffer == HANG_UP) {
+                close(key);
+                return;
+            }
+            connection.channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                return;
+            }
+            connection.responses.poll();
+        }
+        key.interestOps(connection.isClosing ? 0 : SelectionKey.OP_READ);
+    }
+
+    private void close(SelectionKey key) {
+        key.cancel();
+        Connection connection = (Connection) key.attachment();
+        if (connection != null) {
+            connection.isClosing = true;
+        }
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // The connection is gone either way
+        }
+    }
+
+    /**
+     * Starts the server.
+     *
+     * @param args The port, the data directory and the idle timeout in minutes, all optional.
+     * @throws IOException If the server cannot start.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        Path dataDirectory = Path.of(args.length > 1 ? args[1] : DEFAULT_DATA_DIRECTORY);
+        long idleMinutes = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_IDLE_MINUTES;
+        int workerCount = Runtime.getRuntime().availableProcessors() * 2;
+
+        ArtsServer server = new ArtsServer(port, dataDirectory, workerCount, TimeUnit.MINUTES.toMillis(idleMinutes));
+        System.out.println("Arts is serving " + dataDirectory + " on port " + server.getPort());
+        server.run();
+    }
+}
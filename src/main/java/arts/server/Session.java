@@ -0,0 +1,70 @@
+package arts.server;
+
+import arts.Arts;
+
+/**
+ * Represents the tasks of one user of the server, loaded into an Arts instance.
+ * Every connection of the user shares the session, whose task list is safe to use from several threads
+ * and whose Arts instance keeps no state of its own between commands.
+ * A session that has not been used for a while is evicted to free its memory, and loaded again from the
+ * user's task file on the next command. A session is never evicted while one of its commands is running.
+ */
+class Session {
+    private final Arts arts;
+    private long lastUsed;
+    private int runningCommands;
+    private boolean isEvicted;
+
+    /**
+     * Constructs a Session for the given Arts instance.
+     *
+     * @param arts The Arts instance holding the user's tasks.
+     * @param now The current time, in milliseconds.
+     */
+    Session(Arts arts, long now) {
+        assert arts != null : "Arts cannot be null";
+        this.arts = arts;
+        this.lastUsed = now;
+    }
+
+    /**
+     * Marks the start of a command, unless the session has already been evicted.
+     *
+     * @param now The current time, in milliseconds.
+     * @return The Arts instance to run the command with, or null if the session was evicted.
+     */
+    synchronized Arts acquire(long now) {
+        if (isEvicted) {
+            return null;
+        }
+        runningCommands++;
+        lastUsed = now;
+        return arts;
+    }
+
+    /**
+     * Marks the end of a command started with {@link #acquire(long)}.
+     *
+     * @param now The current time, in milliseconds.
+     */
+    synchronized void release(long now) {
+        assert runningCommands > 0 : "Session was released more often than it was acquired";
+        runningCommands--;
+        lastUsed = now;
+    }
+
+    /**
+     * Evicts the session if no command is running and it has not been used for the given time.
+     * An evicted session cannot be acquired again.
+     *
+     * @param now The current time, in milliseconds.
+     * @param idleTimeoutMillis How long the session must have been unused, in milliseconds.
+     * @return true if the session was evicted, otherwise false.
+     */
+    synchronized boolean evictIfIdle(long now, long idleTimeoutMillis) {
+        if (!isEvicted && runningCommands == 0 && now - lastUsed >= idleTimeoutMillis) {
+            isEvicted = true;
+        }
+        return isEvicted;
+    }
+}
@@ -0,0 +1,340 @@
+package arts.task;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.RandomAccess;
+
+/**
+ * Represents a list of tasks stored column by column rather than as task objects, which cuts the memory held
+ * for each task in a very large list. A task is a row holding a type code, the id of its description in a pool
+ * where equal descriptions share one string, its due or start time and its end time as minutes since the epoch,
+ * and a completion bit.
+ * A task object is only created when a row is read, as a view of that row, so changing the view does not change
+ * the list: completion status is changed with {@link #setDone(int, boolean)}, and other changes replace the row
+ * with {@link #set(int, Task)}. Times are kept to the minute.
+ * Like an ArrayList, the list is not synchronized; a {@link TaskList} backed by it guards it with its own lock.
+ */
+public class CompactTaskList extends AbstractList<Task> implements RandomAccess {
+    private static final byte TODO = 0;
+    private static final byte DEADLINE = 1;
+    private static final byte EVENT = 2;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private DescriptionPool descriptions = new DescriptionPool();
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int[] descriptionIds = new int[INITIAL_CAPACITY];
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private long[] ends = new long[INITIAL_CAPACITY];
+    private final BitSet done = new BitSet();
+    private int size;
+
+    /**
+     * Represents the distinct descriptions of the tasks in the list, each kept once and numbered by an id.
+     * Ids are found through an open-addressing hash table of ints, so the pool holds no object per description
+     * beyond the string itself. A description whose last task is removed keeps its id until the pool is rebuilt.
+     */
+    private static class DescriptionPool {
+        private String[] strings = new String[INITIAL_CAPACITY];
+        private int[] counts = new int[INITIAL_CAPACITY];
+        private int[] table = new int[INITIAL_CAPACITY * 2];
+        private int used;
+        private int live;
+
+        /**
+         * Returns the id of the description, adding it to the pool if it is not there, and counts one more use.
+         */
+        int acquire(String description) {
+            int slot = findSlot(description);
+            int id = table[slot] - 1;
+            if (id < 0) {
+                if (used == strings.length) {
+                    strings = Arrays.copyOf(strings, used * 2);
+                    counts = Arrays.copyOf(counts, used * 2);
+                }
+                id = used++;
+                strings[id] = description;
+                table[slot] = id + 1;
+                if (used * 2 > table.length) {
+                    rehash();
+                }
+            }
+            if (counts[id]++ == 0) {
+                live++;
+            }
+            return id;
+        }
+
+        /**
+         * Returns the id of the description if a task in the list uses it, or -1 otherwise.
+         */
+        int find(String description) {
+            int id = table[findSlot(description)] - 1;
+            return id >= 0 && counts[id] > 0 ? id : -1;
+        }
+
+        String get(int id) {
+            return strings[id];
+        }
+
+        void release(int id) {
+            assert counts[id] > 0 : "Description is not in use";
+            if (--counts[id] == 0) {
+                live--;
+            }
+        }
+
+        /**
+         * Returns whether most of the ids belong to descriptions no task uses any more.
+         */
+        boolean isMostlyUnused() {
+            return used > INITIAL_CAPACITY && used > live * 2;
+        }
+
+        private int findSlot(String description) {
+            int mask = table.length - 1;
+            int slot = mix(description.hashCode()) & mask;
+            while (table[slot] != 0 && !strings[table[slot] - 1].equals(description)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash() {
+            table = new int[table.length * 2];
+            int mask = table.length - 1;
+            for (int id = 0; id < used; id++) {
+                int slot = mix(strings[id].hashCode()) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = id + 1;
+            }
+        }
+
+        private static int mix(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    @Override
+    public Task get(int index) {
+        checkIndex(index);
+        String description = descriptions.get(descriptionIds[index]);
+        Task task;
+        switch (types[index]) {
+        case DEADLINE:
+            task = new Deadline(description, toDateTime(starts[index]));
+            break;
+        case EVENT:
+            task = new Event(description, toDateTime(starts[index]), toDateTime(ends[index]));
+            break;
+        default:
+            task = new Todo(description);
+            break;
+        }
+        if (done.get(index)) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Inserts a task as a row at the given index, shifting later rows up by one. Appending is the fast case.
+     *
+     * @param index The index to insert the task at.
+     * @param task The task to insert.
+     */
+    @Override
+    public void add(int index, Task task) {
+        assert task != null : "Task to be added cannot be null";
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        if (size == types.length) {
+            grow();
+        }
+        if (index < size) {
+            System.arraycopy(types, index, types, index + 1, size - index);
+            System.arraycopy(descriptionIds, index, descriptionIds, index + 1, size - index);
+            System.arraycopy(starts, index, starts, index + 1, size - index);
+            System.arraycopy(ends, index, ends, index + 1, size - index);
+            for (int i = size; i > index; i--) {
+                done.set(i, done.get(i - 1));
+            }
+        }
+        size++;
+        writeRow(index, task, descriptions.acquire(task.getDescription()));
+        modCount++;
+    }
+
+    /**
+     * Replaces the row at the given index with the given task, including its completion status.
+     *
+     * @param index The index of the task to replace.
+     * @param task The task to store in its place.
+     * @return A view of the task that was replaced.
+     */
+    @Override
+    public Task set(int index, Task task) {
+        assert task != null : "Task cannot be null";
+        Task replaced = get(index);
+        int oldId = descriptionIds[index];
+        writeRow(index, task, descriptions.acquire(task.getDescription()));
+        descriptions.release(oldId);
+        return replaced;
+    }
+
+    @Override
+    public Task remove(int index) {
+        Task removed = get(index);
+        descriptions.release(descriptionIds[index]);
+        int moved = size - index - 1;
+        System.arraycopy(types, index + 1, types, index, moved);
+        System.arraycopy(descriptionIds, index + 1, descriptionIds, index, moved);
+        System.arraycopy(starts, index + 1, starts, index, moved);
+        System.arraycopy(ends, index + 1, ends, index, moved);
+        for (int i = index; i < size - 1; i++) {
+            done.set(i, done.get(i + 1));
+        }
+        size--;
+        done.clear(size);
+        modCount++;
+        if (descriptions.isMostlyUnused()) {
+            rebuildDescriptions();
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        descriptions = new DescriptionPool();
+        done.clear();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the index of the first equivalent task, comparing rows directly instead of creating a view of each.
+     * A description that is not in the pool is not in the list, so most absent tasks are found without a scan.
+     *
+     * @param o The task to look for.
+     * @return The index of the first equivalent task, or -1 if there is none.
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Task)) {
+            return -1;
+        }
+        Task task = (Task) o;
+        int id = descriptions.find(task.getDescription());
+        if (id < 0 || !isToTheMinute(task)) {
+            return -1;
+        }
+        byte type = typeOf(task);
+        long start = startOf(task);
+        long end = endOf(task);
+        for (int i = 0; i < size; i++) {
+            if (descriptionIds[i] == id && types[i] == type && starts[i] == start && ends[i] == end) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sets the completion status of the task at the given index.
+     *
+     * @param index The index of the task.
+     * @param isDone Whether the task is done.
+     */
+    public void setDone(int index, boolean isDone) {
+        checkIndex(index);
+        done.set(index, isDone);
+    }
+
+    private void writeRow(int index, Task task, int descriptionId) {
+        assert isToTheMinute(task) : "Task times are kept to the minute";
+        types[index] = typeOf(task);
+        descriptionIds[index] = descriptionId;
+        starts[index] = startOf(task);
+        ends[index] = endOf(task);
+        done.set(index, task.isDone());
+    }
+
+    /**
+     * Rebuilds the description pool from the rows, dropping descriptions that no task uses any more.
+     */
+    private void rebuildDescriptions() {
+        DescriptionPool rebuilt = new DescriptionPool();
+        for (int i = 0; i < size; i++) {
+            descriptionIds[i] = rebuilt.acquire(descriptions.get(descriptionIds[i]));
+        }
+        descriptions = rebuilt;
+    }
+
+    private void grow() {
+        int capacity = types.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        descriptionIds = Arrays.copyOf(descriptionIds, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private static byte typeOf(Task task) {
+        if (task instanceof Deadline) {
+            return DEADLINE;
+        } else if (task instanceof Event) {
+            return EVENT;
+        }
+        assert task instanceof Todo : "Unknown task type";
+        return TODO;
+    }
+
+    private static long startOf(Task task) {
+        if (task instanceof Deadline) {
+            return toEpochMinute(((Deadline) task).getBy());
+        } else if (task instanceof Event) {
+            return toEpochMinute(((Event) task).getFrom());
+        }
+        return 0;
+    }
+
+    private static long endOf(Task task) {
+        return task instanceof Event ? toEpochMinute(((Event) task).getTo()) : 0;
+    }
+
+    private static boolean isToTheMinute(Task task) {
+        if (task instanceof Deadline) {
+            return isToTheMinute(((Deadline) task).getBy());
+        } else if (task instanceof Event) {
+            return isToTheMinute(((Event) task).getFrom()) && isToTheMinute(((Event) task).getTo());
+        }
+        return true;
+    }
+
+    private static boolean isToTheMinute(LocalDateTime dateTime) {
+        return dateTime.getSecond() == 0 && dateTime.getNano() == 0;
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+}
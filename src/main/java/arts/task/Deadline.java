@@ -1,17 +1,13 @@
 package arts.task;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Represents a task that has a deadline. Inherits from the Task class and includes
  * additional information about the due date and time for the task.
  */
 public class Deadline extends Task {
-    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy, h:mm a");
-    private static final DateTimeFormatter FILE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
-
-    private LocalDateTime by;
+    private final LocalDateTime by;
 
     /**
      * Constructs a Deadline task with the specified description and due date.
@@ -36,27 +32,41 @@ public class Deadline extends Task {
         return by;
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return super.equals(other) && by.equals(((Deadline) other).by);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() * 31 + by.hashCode();
+    }
+
     /**
-     * Returns a string representation of the deadline task, including its type,
+     * Appends a string representation of the deadline task, including its type,
      * description, and formatted due date.
      *
-     * @return A string representing the deadline task.
+     * @param sb The builder to append to.
+     * @return The builder.
      */
     @Override
-    public String toString() {
+    public StringBuilder appendTo(StringBuilder sb) {
         assert by != null : "Due date should not be null when formatting";
-        return String.format("[D]%s (by: %s)", super.toString(), by.format(DISPLAY_FORMATTER));
+        super.appendTo(sb.append("[D]")).append(" (by: ");
+        return TaskDates.appendDisplay(sb, by).append(')');
     }
 
     /**
-     * Returns a string representation of the deadline task formatted for file storage.
+     * Appends a string representation of the deadline task formatted for file storage.
      * This includes the task type, completion status, description, and due date.
      *
-     * @return A string formatted for storing the deadline task in a file.
+     * @param sb The builder to append to.
+     * @return The builder.
      */
     @Override
-    public String toFileFormat() {
+    public StringBuilder appendFileFormatTo(StringBuilder sb) {
         assert by != null : "Due date should not be null when formatting for file";
-        return String.format("D | %s | %s | %s", isDone ? "1" : "0", description, by.format(FILE_FORMATTER));
+        sb.append("D | ").append(isDone ? '1' : '0').append(" | ").append(description).append(" | ");
+        return TaskDates.appendFile(sb, by);
     }
 }
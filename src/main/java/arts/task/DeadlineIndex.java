@@ -0,0 +1,136 @@
+package arts.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Represents an index of deadlines ordered by due time, used to answer what is due in a time range,
+ * what is due next and what is overdue. Deadlines due at the same time keep the order they were added in.
+ * Completion status is read when a query runs, so marking a deadline does not need to update the index.
+ */
+public class DeadlineIndex {
+    private final TreeMap<LocalDateTime, List<Deadline>> deadlinesByDue = new TreeMap<>();
+    private int size;
+
+    /**
+     * Adds a deadline to the index.
+     *
+     * @param deadline The deadline to add.
+     */
+    public void add(Deadline deadline) {
+        assert deadline != null : "Deadline to be indexed cannot be null";
+        deadlinesByDue.computeIfAbsent(deadline.getBy(), key -> new ArrayList<>(1)).add(deadline);
+        size++;
+    }
+
+    /**
+     * Removes a deadline from the index. Only this exact deadline object is removed, not equivalent copies of it.
+     *
+     * @param deadline The deadline to remove.
+     */
+    public void remove(Deadline deadline) {
+        List<Deadline> sameDue = deadlinesByDue.get(deadline.getBy());
+        if (sameDue == null) {
+            return;
+        }
+        for (int i = 0; i < sameDue.size(); i++) {
+            if (sameDue.get(i) == deadline) {
+                sameDue.remove(i);
+                size--;
+                break;
+            }
+        }
+        if (sameDue.isEmpty()) {
+            deadlinesByDue.remove(deadline.getBy());
+        }
+    }
+
+    /**
+     * Returns the number of deadlines in the index.
+     *
+     * @return The number of deadlines.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns every indexed deadline ordered by due time.
+     *
+     * @return The deadlines ordered by due time.
+     */
+    public List<Deadline> inDueOrder() {
+        List<Deadline> deadlines = new ArrayList<>(size);
+        for (List<Deadline> sameDue : deadlinesByDue.values()) {
+            deadlines.addAll(sameDue);
+        }
+        return deadlines;
+    }
+
+    /**
+     * Returns the deadlines due within the given range, ordered by due time.
+     *
+     * @param start The start of the range, inclusive.
+     * @param end The end of the range, inclusive.
+     * @return The deadlines due within the range.
+     */
+    public List<Deadline> dueBetween(LocalDateTime start, LocalDateTime end) {
+        assert start != null && end != null : "Range cannot be null";
+        assert !start.isAfter(end) : "Range start must not be after its end";
+
+        List<Deadline> deadlines = new ArrayList<>();
+        for (List<Deadline> sameDue : deadlinesByDue.subMap(start, true, end, true).values()) {
+            deadlines.addAll(sameDue);
+        }
+        return deadlines;
+    }
+
+    /**
+     * Returns up to the given number of deadlines that are not done and are due at or after the given time,
+     * ordered by due time.
+     *
+     * @param now The time to look ahead from.
+     * @param count The maximum number of deadlines to return.
+     * @return The next deadlines that are not done.
+     */
+    public List<Deadline> next(LocalDateTime now, int count) {
+        assert now != null : "Time cannot be null";
+        assert count >= 0 : "Count cannot be negative";
+
+        List<Deadline> deadlines = new ArrayList<>(Math.min(count, size));
+        for (Map.Entry<LocalDateTime, List<Deadline>> entry : deadlinesByDue.tailMap(now, true).entrySet()) {
+            for (Deadline deadline : entry.getValue()) {
+                if (deadlines.size() == count) {
+                    return deadlines;
+                }
+                if (!deadline.isDone()) {
+                    deadlines.add(deadline);
+                }
+            }
+        }
+        return deadlines;
+    }
+
+    /**
+     * Returns the deadlines that are not done and were due before the given time, ordered by due time.
+     *
+     * @param now The current time.
+     * @return The overdue deadlines.
+     */
+    public List<Deadline> overdue(LocalDateTime now) {
+        assert now != null : "Time cannot be null";
+
+        List<Deadline> deadlines = new ArrayList<>();
+        for (List<Deadline> sameDue : deadlinesByDue.headMap(now, false).values()) {
+            for (Deadline deadline : sameDue) {
+                if (!deadline.isDone()) {
+                    deadlines.add(deadline);
+                }
+            }
+        }
+        return deadlines;
+    }
+}
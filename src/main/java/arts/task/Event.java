@@ -1,7 +1,6 @@
 package arts.task;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Represents an event task that occurs within a specified time frame.
@@ -9,11 +8,8 @@ import java.time.format.DateTimeFormatter;
  * about the start and end times of the event.
  */
 public class Event extends Task {
-    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy, h:mm a");
-    private static final DateTimeFormatter FILE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
-
-    private LocalDateTime from;
-    private LocalDateTime to;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
 
     /**
      * Constructs an Event task with the specified description, start time, and end time.
@@ -43,35 +39,53 @@ public class Event extends Task {
     }
 
     /**
-     * Returns a string representation of the event task, including its type,
+     * Returns the end date and time of the event.
+     *
+     * @return The end date and time of the event.
+     */
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return super.equals(other) && from.equals(((Event) other).from) && to.equals(((Event) other).to);
+    }
+
+    @Override
+    public int hashCode() {
+        return (super.hashCode() * 31 + from.hashCode()) * 31 + to.hashCode();
+    }
+
+    /**
+     * Appends a string representation of the event task, including its type,
      * description, and formatted start and end times.
      *
-     * @return A string representing the event task.
+     * @param sb The builder to append to.
+     * @return The builder.
      */
     @Override
-    public String toString() {
+    public StringBuilder appendTo(StringBuilder sb) {
         assert from != null : "Start time should not be null when formatting";
         assert to != null : "End time should not be null when formatting";
-        return String.format("[E]%s (from: %s to: %s)",
-                super.toString(),
-                from.format(DISPLAY_FORMATTER),
-                to.format(DISPLAY_FORMATTER));
+        super.appendTo(sb.append("[E]")).append(" (from: ");
+        TaskDates.appendDisplay(sb, from).append(" to: ");
+        return TaskDates.appendDisplay(sb, to).append(')');
     }
 
     /**
-     * Returns a string representation of the event task formatted for file storage.
+     * Appends a string representation of the event task formatted for file storage.
      * This includes the task type, completion status, description, start time, and end time.
      *
-     * @return A string formatted for storing the event task in a file.
+     * @param sb The builder to append to.
+     * @return The builder.
      */
     @Override
-    public String toFileFormat() {
+    public StringBuilder appendFileFormatTo(StringBuilder sb) {
         assert from != null : "Start time should not be null when formatting for file";
         assert to != null : "End time should not be null when formatting for file";
-        return String.format("E | %s | %s | %s | %s",
-                isDone ? "1" : "0",
-                description,
-                from.format(FILE_FORMATTER),
-                to.format(FILE_FORMATTER));
+        sb.append("E | ").append(isDone ? '1' : '0').append(" | ").append(description).append(" | ");
+        TaskDates.appendFile(sb, from).append(" | ");
+        return TaskDates.appendFile(sb, to);
     }
 }
@@ -0,0 +1,104 @@
+package arts.task;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Represents an index of events ordered by start time, used to answer which events overlap a time range.
+ * Alongside the ordering it tracks the longest event seen, so a range query only has to look at events
+ * starting between the range start minus that duration and the range end, instead of at every event.
+ */
+public class EventIndex {
+    private final TreeMap<LocalDateTime, List<Event>> eventsByStart = new TreeMap<>();
+    private Duration longestDuration = Duration.ZERO;
+    private int size;
+
+    /**
+     * Adds an event to the index.
+     *
+     * @param event The event to add.
+     */
+    public void add(Event event) {
+        assert event != null : "Event to be indexed cannot be null";
+        eventsByStart.computeIfAbsent(event.getFrom(), key -> new ArrayList<>(1)).add(event);
+        Duration duration = Duration.between(event.getFrom(), event.getTo());
+        if (duration.compareTo(longestDuration) > 0) {
+            longestDuration = duration;
+        }
+        size++;
+    }
+
+    /**
+     * Removes an event from the index. Only this exact event object is removed, not equivalent copies of it.
+     * The longest duration is not lowered, which only makes later queries look at a few more events.
+     *
+     * @param event The event to remove.
+     */
+    public void remove(Event event) {
+        List<Event> sameStart = eventsByStart.get(event.getFrom());
+        if (sameStart == null) {
+            return;
+        }
+        for (int i = 0; i < sameStart.size(); i++) {
+            if (sameStart.get(i) == event) {
+                sameStart.remove(i);
+                size--;
+                break;
+            }
+        }
+        if (sameStart.isEmpty()) {
+            eventsByStart.remove(event.getFrom());
+        }
+    }
+
+    /**
+     * Returns the number of events in the index.
+     *
+     * @return The number of events.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns every indexed event ordered by start time.
+     *
+     * @return The events ordered by start time.
+     */
+    public List<Event> inStartOrder() {
+        List<Event> events = new ArrayList<>(size);
+        for (List<Event> sameStart : eventsByStart.values()) {
+            events.addAll(sameStart);
+        }
+        return events;
+    }
+
+    /**
+     * Returns the events that overlap the given range, ordered by start time.
+     * An event overlaps the range if it starts no later than the range ends and ends no earlier than it starts.
+     *
+     * @param start The start of the range, inclusive.
+     * @param end The end of the range, inclusive.
+     * @return The overlapping events.
+     */
+    public List<Event> overlapping(LocalDateTime start, LocalDateTime end) {
+        assert start != null && end != null : "Range cannot be null";
+        assert !start.isAfter(end) : "Range start must not be after its end";
+
+        List<Event> events = new ArrayList<>();
+        LocalDateTime earliestStart = start.minus(longestDuration);
+        for (Map.Entry<LocalDateTime, List<Event>> entry
+                : eventsByStart.subMap(earliestStart, true, end, true).entrySet()) {
+            for (Event event : entry.getValue()) {
+                if (!event.getTo().isBefore(start)) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,203 @@
+package arts.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import arts.Cancellation;
+
+/**
+ * Represents an inverted index over task descriptions, mapping each word to the tasks that contain it.
+ * A query word matches every word of a description that starts with it, ignoring case. The words are kept
+ * in order, so the words with a given start are read as one range of the index, without looking at any
+ * other word or task. A query is a list of words that must all match,
+ * and several such lists can be joined with OR. Each task is given an id when it is indexed, so results
+ * come back in the order the tasks were added; an index over a list that has been reordered must be rebuilt.
+ */
+public class SearchIndex {
+    private static final String OR = "or";
+
+    private final TreeMap<String, TreeSet<Long>> postings = new TreeMap<>();
+    private final IdentityHashMap<Task, Long> ids = new IdentityHashMap<>();
+    private final HashMap<Long, Task> tasksById = new HashMap<>();
+    private long nextId;
+
+    /**
+     * Adds a task to the index.
+     *
+     * @param task The task to add.
+     */
+    public void add(Task task) {
+        assert task != null : "Task to be indexed cannot be null";
+        long id = nextId++;
+        ids.put(task, id);
+        tasksById.put(id, task);
+        for (String token : tokenize(task.getDescription())) {
+            postings.computeIfAbsent(token, key -> new TreeSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Removes a task from the index. Only this exact task object is removed, not equivalent copies of it.
+     *
+     * @param task The task to remove.
+     */
+    public void remove(Task task) {
+        Long id = ids.remove(task);
+        if (id == null) {
+            return;
+        }
+        tasksById.remove(id);
+        for (String token : tokenize(task.getDescription())) {
+            TreeSet<Long> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the tasks matching a query, in the order they were added.
+     * Words in the query must all match a word in the description, either exactly or as a prefix.
+     * Groups of words separated by OR are alternatives.
+     *
+     * @param query The query, such as {@code "read book or write"}.
+     * @return The matching tasks.
+     */
+    public List<Task> search(String query) {
+        assert query != null : "Query cannot be null";
+        TreeSet<Long> results = new TreeSet<>();
+        for (List<String> group : parseQuery(query)) {
+            results.addAll(matchAll(group));
+        }
+
+        List<Task> matches = new ArrayList<>(results.size());
+        for (long id : results) {
+            matches.add(tasksById.get(id));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the tasks matching a query, in list order, by checking every task instead of using an index.
+     * Matching follows the same rules as {@link #search(String)}.
+     *
+     * @param query The query, such as {@code "read book or write"}.
+     * @param tasks The tasks to check.
+     * @return The matching tasks.
+     */
+    public static List<Task> scan(String query, Iterable<Task> tasks) {
+        assert query != null : "Query cannot be null";
+        List<List<String>> groups = parseQuery(query);
+        List<Task> matches = new ArrayList<>();
+        for (Task task : tasks) {
+            Cancellation.checkpoint();
+            List<String> tokens = tokenize(task.getDescription());
+            for (List<String> group : groups) {
+                if (!group.isEmpty() && matchesAll(group, tokens)) {
+                    matches.add(task);
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matchesAll(List<String> terms, List<String> tokens) {
+        for (String term : terms) {
+            boolean isFound = false;
+            for (int i = 0; i < tokens.size() && !isFound; i++) {
+                isFound = tokens.get(i).startsWith(term);
+            }
+            if (!isFound) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits a query into groups of lower-case terms, one group for each side of an OR.
+     */
+    private static List<List<String>> parseQuery(String query) {
+        List<List<String>> groups = new ArrayList<>();
+        List<String> group = new ArrayList<>();
+        for (String word : query.trim().split("\\s+")) {
+            if (word.equalsIgnoreCase(OR)) {
+                groups.add(group);
+                group = new ArrayList<>();
+            } else {
+                group.addAll(tokenize(word));
+            }
+        }
+        groups.add(group);
+        return groups;
+    }
+
+    /**
+     * Returns the ids of tasks matching every term, starting from the rarest term to keep intersections small.
+     */
+    private TreeSet<Long> matchAll(List<String> terms) {
+        if (terms.isEmpty()) {
+            return new TreeSet<>();
+        }
+        List<TreeSet<Long>> matches = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            matches.add(matchPrefix(term));
+        }
+        matches.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        TreeSet<Long> result = new TreeSet<>(matches.get(0));
+        for (int i = 1; i < matches.size() && !result.isEmpty(); i++) {
+            result.retainAll(matches.get(i));
+        }
+        return result;
+    }
+
+    private TreeSet<Long> matchPrefix(String prefix) {
+        NavigableMap<String, TreeSet<Long>> range = postingsStartingWith(prefix);
+        if (range.size() == 1) {
+            return range.firstEntry().getValue();
+        }
+        TreeSet<Long> union = new TreeSet<>();
+        for (Map.Entry<String, TreeSet<Long>> entry : range.entrySet()) {
+            union.addAll(entry.getValue());
+        }
+        return union;
+    }
+
+    /**
+     * Returns the words that start with the prefix and the tasks containing each, as a view of one ordered
+     * range of the index.
+     */
+    NavigableMap<String, TreeSet<Long>> postingsStartingWith(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Splits text into lower-case words made of letters and digits.
+     */
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean isWordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -1,8 +1,5 @@
 package arts.task;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-
 import arts.ArtsException;
 
 /**
@@ -72,7 +69,18 @@ public abstract class Task {
      *
      * @return A string representing the task in file format.
      */
-    public abstract String toFileFormat();
+    public String toFileFormat() {
+        return appendFileFormatTo(new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends the task in the format used for file storage to the given builder, so that many tasks
+     * can be written without creating a string for each one.
+     *
+     * @param sb The builder to append to.
+     * @return The builder.
+     */
+    public abstract StringBuilder appendFileFormatTo(StringBuilder sb);
 
     /**
      * Creates a Task object from a string formatted for file storage.
@@ -84,39 +92,31 @@ public abstract class Task {
      * @throws ArtsException If the task type is unknown or data is invalid.
      */
     public static Task fromFileFormat(String data) throws ArtsException {
-        assert data != null && !data.trim().isEmpty() : "Data cannot be null or empty";
-
-        String[] parts = data.split(" \\| ");
-        assert parts.length >= 3 : "Data must contain at least three parts";
-
-        String type = parts[0];
-        boolean isDone = parts[1].equals("1");
-        String description = parts[2];
-
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+        assert data != null : "Data cannot be null";
+        return TaskRecordDecoder.decode(data);
+    }
 
-        switch (type) {
-        case "T":
-            return createTask(new Todo(description), isDone);
-        case "D":
-            assert parts.length == 4 : "Deadline task data must contain four parts";
-            LocalDateTime by = LocalDateTime.parse(parts[3], formatter);
-            return createTask(new Deadline(description, by), isDone);
-        case "E":
-            assert parts.length == 5 : "Event task data must contain five parts";
-            LocalDateTime from = LocalDateTime.parse(parts[3], formatter);
-            LocalDateTime to = LocalDateTime.parse(parts[4], formatter);
-            return createTask(new Event(description, from, to), isDone);
-        default:
-            throw new ArtsException("Unknown task type.");
+    /**
+     * Returns whether the other object is a task of the same type with the same details.
+     * The completion status is not part of a task's identity, so marking a task does not change it.
+     *
+     * @param other The object to compare with.
+     * @return true if the other object is an equivalent task, otherwise false.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
         }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return description.equals(((Task) other).description);
     }
 
-    private static Task createTask(Task task, boolean isDone) {
-        if (isDone) {
-            task.markAsDone();
-        }
-        return task;
+    @Override
+    public int hashCode() {
+        return getClass().hashCode() * 31 + description.hashCode();
     }
 
     /**
@@ -126,7 +126,19 @@ public abstract class Task {
      */
     @Override
     public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends the string representation of the task to the given builder, so that listing many tasks
+     * does not create a string for each one. Subclasses add their type and details around the status icon
+     * and description appended here.
+     *
+     * @param sb The builder to append to.
+     * @return The builder.
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
         assert description != null : "Description should not be null when converting to string";
-        return String.format("[%s] %s", getStatusIcon(), description);
+        return sb.append('[').append(getStatusIcon()).append("] ").append(description);
     }
 }
@@ -0,0 +1,75 @@
+package arts.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Represents the formats of the times shown in and saved with tasks, appended straight into a StringBuilder.
+ * The digits are written directly rather than through a DateTimeFormatter, which builds a new string and
+ * several helper objects for every time it formats. Month and AM/PM names are read once from the same
+ * patterns, so they match what the formatters would print. Years outside 1 to 9999 use the formatters.
+ */
+final class TaskDates {
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy, h:mm a");
+    private static final DateTimeFormatter FILE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final String[] MONTHS = new String[12];
+    private static final String AM = DateTimeFormatter.ofPattern("a").format(LocalTime.of(0, 0));
+    private static final String PM = DateTimeFormatter.ofPattern("a").format(LocalTime.of(12, 0));
+
+    static {
+        DateTimeFormatter month = DateTimeFormatter.ofPattern("MMM");
+        for (int i = 0; i < MONTHS.length; i++) {
+            MONTHS[i] = month.format(LocalDate.of(2000, i + 1, 1));
+        }
+    }
+
+    private TaskDates() {
+    }
+
+    /**
+     * Appends the time as it is shown to the user, such as {@code Aug 29 2024, 6:00 PM}.
+     */
+    static StringBuilder appendDisplay(StringBuilder sb, LocalDateTime dateTime) {
+        if (!hasFourDigitYear(dateTime)) {
+            DISPLAY_FORMATTER.formatTo(dateTime, sb);
+            return sb;
+        }
+        sb.append(MONTHS[dateTime.getMonthValue() - 1]).append(' ');
+        appendTwoDigits(sb, dateTime.getDayOfMonth()).append(' ');
+        appendFourDigits(sb, dateTime.getYear()).append(", ");
+        int hour = dateTime.getHour() % 12;
+        sb.append(hour == 0 ? 12 : hour).append(':');
+        appendTwoDigits(sb, dateTime.getMinute()).append(' ');
+        return sb.append(dateTime.getHour() < 12 ? AM : PM);
+    }
+
+    /**
+     * Appends the time as it is saved in the task file, such as {@code 2024-08-29 1800}.
+     */
+    static StringBuilder appendFile(StringBuilder sb, LocalDateTime dateTime) {
+        if (!hasFourDigitYear(dateTime)) {
+            FILE_FORMATTER.formatTo(dateTime, sb);
+            return sb;
+        }
+        appendFourDigits(sb, dateTime.getYear()).append('-');
+        appendTwoDigits(sb, dateTime.getMonthValue()).append('-');
+        appendTwoDigits(sb, dateTime.getDayOfMonth()).append(' ');
+        appendTwoDigits(sb, dateTime.getHour());
+        return appendTwoDigits(sb, dateTime.getMinute());
+    }
+
+    private static boolean hasFourDigitYear(LocalDateTime dateTime) {
+        return dateTime.getYear() >= 1 && dateTime.getYear() <= 9999;
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder sb, int value) {
+        return sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static StringBuilder appendFourDigits(StringBuilder sb, int value) {
+        appendTwoDigits(sb, value / 100);
+        return appendTwoDigits(sb, value % 100);
+    }
+}
@@ -1,19 +1,68 @@
 package arts.task;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import arts.Cancellation;
 
 /**
  * Represents a list of tasks, providing functionalities to manage
  * tasks such as adding, retrieving, removing, and checking the list's size.
+ * A hash index, a word index, an event time index and a deadline due index are kept alongside the list
+ * so that duplicate checks, searches and schedule lookups do not scan every task. Each is built on first
+ * use and kept up to date afterwards.
+ * A list that is too large to hold in memory, such as a paged task file, or one kept compact in memory,
+ * such as a {@link CompactTaskList}, can be used without indexes, in which case lookups scan the list instead.
+ * Long scans and index builds stop at a {@link Cancellation} checkpoint when their command is cancelled.
+ * An index is only kept once it is complete, and a sort only changes the list once its new order is ready,
+ * so a cancelled command leaves the TaskList as it was.
+ * A TaskList can be shared by several sessions on different threads. Every method holds a read or write lock,
+ * and a command that needs several calls to see one consistent state, or that changes the list and then
+ * saves it, runs them inside {@link #read(Action)} or {@link #update(Action)}. Readers share the lock;
+ * an index that is missing is built by the first reader that needs it while the others wait for it.
  */
 public class TaskList {
-    private final ArrayList<Task> tasks;
+    private final List<Task> tasks;
+    private final boolean isIndexed;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object indexLock = new Object();
+    private HashMap<Task, Integer> taskCounts;
+    private SearchIndex searchIndex;
+    private EventIndex eventIndex;
+    private DeadlineIndex deadlineIndex;
+
+    /**
+     * Represents work done on the TaskList while holding one of its locks.
+     *
+     * @param <T> The type of the result of the work.
+     * @param <E> The type of exception the work may throw.
+     */
+    @FunctionalInterface
+    public interface Action<T, E extends Exception> {
+        /**
+         * Does the work.
+         *
+         * @return The result of the work.
+         * @throws E If the work fails.
+         */
+        T run() throws E;
+    }
 
     /**
      * Constructs an empty TaskList.
      */
     public TaskList() {
-        this.tasks = new ArrayList<>();
+        this(new ArrayList<>(), true);
     }
 
     /**
@@ -22,8 +71,69 @@ public class TaskList {
      * @param tasks The list of tasks to initialize the TaskList with.
      */
     public TaskList(ArrayList<Task> tasks) {
+        this(tasks, true);
+    }
+
+    /**
+     * Constructs a TaskList backed by the given list, optionally without in-memory indexes.
+     * Without indexes, no references to tasks are kept beyond the list itself, so a list that decodes
+     * tasks on demand stays within its own memory bound, at the cost of lookups that scan the list.
+     *
+     * @param tasks The list of tasks to back the TaskList with.
+     * @param isIndexed Whether lookups are answered from indexes kept in memory.
+     */
+    public TaskList(List<Task> tasks, boolean isIndexed) {
         assert tasks != null : "Tasks list cannot be null";
         this.tasks = tasks;
+        this.isIndexed = isIndexed;
+    }
+
+    /**
+     * Runs work that reads the TaskList several times, so that no other thread changes it in between.
+     * The work must not change the TaskList.
+     *
+     * @param action The work to run.
+     * @param <T> The type of the result of the work.
+     * @param <E> The type of exception the work may throw.
+     * @return The result of the work.
+     * @throws E If the work fails.
+     */
+    public <T, E extends Exception> T read(Action<T, E> action) throws E {
+        lock.readLock().lock();
+        try {
+            return action.run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs work that changes the TaskList, such as checking a task, changing it and saving the list,
+     * so that no other thread reads or changes the TaskList until the work is done.
+     *
+     * @param action The work to run.
+     * @param <T> The type of the result of the work.
+     * @param <E> The type of exception the work may throw.
+     * @return The result of the work.
+     * @throws E If the work fails.
+     */
+    public <T, E extends Exception> T update(Action<T, E> action) throws E {
+        lock.writeLock().lock();
+        try {
+            return action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the lock held by {@link #read(Action)}, for a thread that reads the list on behalf of commands
+     * that have already returned, such as a background writer saving it.
+     *
+     * @return The read lock of the TaskList.
+     */
+    public Lock getReadLock() {
+        return lock.readLock();
     }
 
     /**
@@ -33,7 +143,50 @@ public class TaskList {
      */
     public void addTask(Task task) {
         assert task != null : "Task to be added cannot be null";
-        tasks.add(task);
+        update(() -> {
+            tasks.add(task);
+            if (taskCounts != null) {
+                taskCounts.merge(task, 1, Integer::sum);
+            }
+            if (searchIndex != null) {
+                searchIndex.add(task);
+            }
+            if (eventIndex != null && task instanceof Event) {
+                eventIndex.add((Event) task);
+            }
+            if (deadlineIndex != null && task instanceof Deadline) {
+                deadlineIndex.add((Deadline) task);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Adds the given tasks that are not already in the TaskList, keeping their order and skipping repeats
+     * among them. An indexed list checks them against its hash index; otherwise the list is scanned once
+     * for the whole group rather than once per task.
+     *
+     * @param newTasks The tasks to add.
+     * @return The tasks that were added.
+     */
+    public List<Task> addAllAbsent(List<Task> newTasks) {
+        assert newTasks != null : "Tasks to be added cannot be null";
+        return update(() -> {
+            LinkedHashSet<Task> absent = new LinkedHashSet<>(newTasks);
+            if (isIndexed) {
+                absent.removeIf(getTaskCounts()::containsKey);
+            } else {
+                for (Task task : tasks) {
+                    Cancellation.checkpoint();
+                    absent.remove(task);
+                }
+            }
+            List<Task> added = new ArrayList<>(absent);
+            for (Task task : added) {
+                addTask(task);
+            }
+            return added;
+        });
     }
 
     /**
@@ -43,8 +196,10 @@ public class TaskList {
      * @return The task at the specified index.
      */
     public Task getTask(int index) {
-        assert index >= 0 && index < tasks.size() : "Index out of bounds";
-        return tasks.get(index);
+        return read(() -> {
+            assert index >= 0 && index < tasks.size() : "Index out of bounds";
+            return tasks.get(index);
+        });
     }
 
     /**
@@ -54,8 +209,48 @@ public class TaskList {
      * @return The task that was removed.
      */
     public Task removeTask(int index) {
-        assert index >= 0 && index < tasks.size() : "Index out of bounds";
-        return tasks.remove(index);
+        return update(() -> {
+            assert index >= 0 && index < tasks.size() : "Index out of bounds";
+            Task removed = tasks.remove(index);
+            if (taskCounts != null) {
+                taskCounts.computeIfPresent(removed, (key, count) -> count == 1 ? null : count - 1);
+            }
+            if (searchIndex != null) {
+                searchIndex.remove(removed);
+            }
+            if (eventIndex != null && removed instanceof Event) {
+                eventIndex.remove((Event) removed);
+            }
+            if (deadlineIndex != null && removed instanceof Deadline) {
+                deadlineIndex.remove((Deadline) removed);
+            }
+            return removed;
+        });
+    }
+
+    /**
+     * Marks the task at the specified index as done or not done. A list that stores its tasks as rows,
+     * such as a {@link CompactTaskList}, returns a new view of a task each time it is read, so the change
+     * is also written to the row.
+     *
+     * @param index The index of the task.
+     * @param isDone Whether the task is done.
+     * @return The task, with its new completion status.
+     */
+    public Task setDone(int index, boolean isDone) {
+        return update(() -> {
+            assert index >= 0 && index < tasks.size() : "Index out of bounds";
+            Task task = tasks.get(index);
+            if (isDone) {
+                task.markAsDone();
+            } else {
+                task.markAsNotDone();
+            }
+            if (tasks instanceof CompactTaskList) {
+                ((CompactTaskList) tasks).setDone(index, isDone);
+            }
+            return task;
+        });
     }
 
     /**
@@ -64,7 +259,7 @@ public class TaskList {
      * @return The size of the TaskList.
      */
     public int size() {
-        return tasks.size();
+        return read(tasks::size);
     }
 
     /**
@@ -73,17 +268,27 @@ public class TaskList {
      * @return true if the TaskList is empty, otherwise false.
      */
     public boolean isEmpty() {
-        return tasks.isEmpty();
+        return read(tasks::isEmpty);
     }
 
     /**
-     * Returns the list of tasks in the TaskList.
+     * Returns whether lookups are answered from in-memory indexes, which also means the list can be reordered.
      *
-     * @return An ArrayList of tasks.
+     * @return true if the TaskList keeps indexes, otherwise false.
      */
-    public ArrayList<Task> getTasks() {
+    public boolean isIndexed() {
+        return isIndexed;
+    }
+
+    /**
+     * Returns a read-only view of the list of tasks, such as for saving it.
+     * The view is not a copy, so it should only be used inside {@link #read(Action)} or {@link #update(Action)}.
+     *
+     * @return A read-only view of the list of tasks.
+     */
+    public List<Task> getTasks() {
         assert tasks != null : "Tasks list should not be null";
-        return tasks;
+        return Collections.unmodifiableList(tasks);
     }
 
     /**
@@ -94,6 +299,242 @@ public class TaskList {
      */
     public boolean contains(Task task) {
         assert task != null : "Task to check cannot be null";
-        return tasks.stream().anyMatch(t -> t.equals(task));
+        return read(() -> isIndexed ? getTaskCounts().containsKey(task) : tasks.contains(task));
+    }
+
+    /**
+     * Returns the tasks whose descriptions match a query, in list order.
+     * Matching is by word and prefix and ignores case; groups of words separated by OR are alternatives.
+     *
+     * @param query The words to search for.
+     * @return The matching tasks.
+     */
+    public List<Task> search(String query) {
+        assert query != null : "Query cannot be null";
+        return read(() -> isIndexed ? getSearchIndex().search(query) : SearchIndex.scan(query, tasks));
+    }
+
+    /**
+     * Returns the events that overlap the given time range, ordered by start time.
+     *
+     * @param start The start of the range, inclusive.
+     * @param end The end of the range, inclusive.
+     * @return The overlapping events.
+     */
+    public List<Event> getEventsBetween(LocalDateTime start, LocalDateTime end) {
+        assert start != null && end != null : "Range cannot be null";
+        return read(() -> isIndexed ? getEventIndex().overlapping(start, end) : scanEvents(start, end));
+    }
+
+    /**
+     * Returns the events taking place at any time on the given date, ordered by start time.
+     *
+     * @param date The date to look up.
+     * @return The events on that date.
+     */
+    public List<Event> getEventsOn(LocalDate date) {
+        assert date != null : "Date cannot be null";
+        return getEventsBetween(date.atStartOfDay(), date.atTime(23, 59));
+    }
+
+    /**
+     * Returns the deadlines due at any time on the given date, ordered by due time.
+     *
+     * @param date The date to look up.
+     * @return The deadlines due on that date.
+     */
+    public List<Deadline> getDeadlinesDueOn(LocalDate date) {
+        assert date != null : "Date cannot be null";
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.atTime(23, 59);
+        return read(() -> isIndexed ? getDeadlineIndex().dueBetween(start, end)
+                : scanDeadlines(deadline -> !deadline.getBy().isBefore(start) && !deadline.getBy().isAfter(end)));
+    }
+
+    /**
+     * Returns up to the given number of deadlines that are not done and are due at or after the given time,
+     * ordered by due time.
+     *
+     * @param now The time to look ahead from.
+     * @param count The maximum number of deadlines to return.
+     * @return The next deadlines that are not done.
+     */
+    public List<Deadline> getNextDeadlines(LocalDateTime now, int count) {
+        assert now != null : "Time cannot be null";
+        return read(() -> {
+            if (isIndexed) {
+                return getDeadlineIndex().next(now, count);
+            }
+            List<Deadline> deadlines = scanDeadlines(deadline -> !deadline.isDone() && !deadline.getBy().isBefore(now));
+            return deadlines.subList(0, Math.min(count, deadlines.size()));
+        });
+    }
+
+    /**
+     * Returns the deadlines that are not done and were due before the given time, ordered by due time.
+     *
+     * @param now The current time.
+     * @return The overdue deadlines.
+     */
+    public List<Deadline> getOverdueDeadlines(LocalDateTime now) {
+        assert now != null : "Time cannot be null";
+        return read(() -> isIndexed ? getDeadlineIndex().overdue(now)
+                : scanDeadlines(deadline -> !deadline.isDone() && deadline.getBy().isBefore(now)));
+    }
+
+    /**
+     * Reorders the list so that deadlines come first in chronological order,
+     * followed by all other tasks in their existing order.
+     * The order is read from the deadline index, so the list is only rewritten if it was not already in order.
+     *
+     * @return true if the order of the list changed, otherwise false.
+     */
+    public boolean sortDeadlines() {
+        assert isIndexed : "Only an indexed TaskList can be reordered";
+        return update(() -> {
+            List<Deadline> sortedDeadlines = getDeadlineIndex().inDueOrder();
+            boolean isSorted = true;
+            for (int i = 0; i < sortedDeadlines.size() && isSorted; i++) {
+                isSorted = tasks.get(i) == sortedDeadlines.get(i);
+            }
+            if (isSorted) {
+                return false;
+            }
+
+            // Collect other types of tasks that are not deadlines
+            List<Task> otherTasks = tasks.stream()
+                    .filter(task -> !(task instanceof Deadline))
+                    .collect(Collectors.toList());
+
+            Cancellation.checkpoint();
+            tasks.clear();
+            tasks.addAll(sortedDeadlines);
+            tasks.addAll(otherTasks);
+            // Search results follow the order tasks were indexed in, so the index is rebuilt in the new order
+            searchIndex = null;
+            return true;
+        });
+    }
+
+    /**
+     * Reorders the list so that events come first ordered by start date,
+     * followed by all other tasks in their existing order.
+     */
+    public void sortEvents() {
+        assert isIndexed : "Only an indexed TaskList can be reordered";
+        update(() -> {
+            List<Event> sortedEvents = tasks.stream()
+                    .filter(task -> task instanceof Event)
+                    .map(task -> (Event) task)
+                    .sorted((e1, e2) -> e1.getFrom().compareTo(e2.getFrom()))
+                    .collect(Collectors.toList());
+
+            // Collect other types of tasks that are not events
+            List<Task> otherTasks = tasks.stream()
+                    .filter(task -> !(task instanceof Event))
+                    .collect(Collectors.toList());
+
+            Cancellation.checkpoint();
+            tasks.clear();
+            tasks.addAll(sortedEvents);
+            tasks.addAll(otherTasks);
+            // Search results follow the order tasks were indexed in, so the index is rebuilt in the new order
+            searchIndex = null;
+            return null;
+        });
+    }
+
+    /**
+     * Returns the events that overlap the given range ordered by start time, found by scanning the list.
+     */
+    private List<Event> scanEvents(LocalDateTime start, LocalDateTime end) {
+        List<Event> events = new ArrayList<>();
+        for (Task task : tasks) {
+            Cancellation.checkpoint();
+            if (task instanceof Event && !((Event) task).getFrom().isAfter(end)
+                    && !((Event) task).getTo().isBefore(start)) {
+                events.add((Event) task);
+            }
+        }
+        events.sort(Comparator.comparing(Event::getFrom));
+        return events;
+    }
+
+    /**
+     * Returns the deadlines accepted by the filter ordered by due time, found by scanning the list.
+     */
+    private List<Deadline> scanDeadlines(Predicate<Deadline> filter) {
+        List<Deadline> deadlines = new ArrayList<>();
+        for (Task task : tasks) {
+            Cancellation.checkpoint();
+            if (task instanceof Deadline && filter.test((Deadline) task)) {
+                deadlines.add((Deadline) task);
+            }
+        }
+        deadlines.sort(Comparator.comparing(Deadline::getBy));
+        return deadlines;
+    }
+
+    // The index getters are called while holding at least the read lock. Readers may run at the same time,
+    // so building a missing index is guarded by indexLock, and writers, which hold the write lock, are excluded.
+
+    private HashMap<Task, Integer> getTaskCounts() {
+        synchronized (indexLock) {
+            if (taskCounts == null) {
+                HashMap<Task, Integer> counts = new HashMap<>();
+                for (Task t : tasks) {
+                    Cancellation.checkpoint();
+                    counts.merge(t, 1, Integer::sum);
+                }
+                taskCounts = counts;
+            }
+            return taskCounts;
+        }
+    }
+
+    private SearchIndex getSearchIndex() {
+        synchronized (indexLock) {
+            if (searchIndex == null) {
+                SearchIndex index = new SearchIndex();
+                for (Task task : tasks) {
+                    Cancellation.checkpoint();
+                    index.add(task);
+                }
+                searchIndex = index;
+            }
+            return searchIndex;
+        }
+    }
+
+    private EventIndex getEventIndex() {
+        synchronized (indexLock) {
+            if (eventIndex == null) {
+                EventIndex index = new EventIndex();
+                for (Task task : tasks) {
+                    Cancellation.checkpoint();
+                    if (task instanceof Event) {
+                        index.add((Event) task);
+                    }
+                }
+                eventIndex = index;
+            }
+            return eventIndex;
+        }
+    }
+
+    private DeadlineIndex getDeadlineIndex() {
+        synchronized (indexLock) {
+            if (deadlineIndex == null) {
+                DeadlineIndex index = new DeadlineIndex();
+                for (Task task : tasks) {
+                    Cancellation.checkpoint();
+                    if (task instanceof Deadline) {
+                        index.add((Deadline) task);
+                    }
+                }
+                deadlineIndex = index;
+            }
+            return deadlineIndex;
+        }
     }
 }
@@ -0,0 +1,165 @@
+package arts.task;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+import arts.ArtsException;
+
+/**
+ * Represents a decoder for the pipe-delimited task file format, such as
+ * {@code D | 1 | Submit report | 2024-08-29 1800}. Records are scanned by offset without regular
+ * expressions or intermediate strings, and the fixed-width timestamps are read digit by digit.
+ * Because the timestamps have a fixed width, they are located from the end of the record,
+ * so a description may itself contain the separator.
+ */
+public class TaskRecordDecoder {
+    private static final String SEPARATOR = " | ";
+    private static final int SEPARATOR_LENGTH = SEPARATOR.length();
+    private static final int TIMESTAMP_LENGTH = "yyyy-MM-dd HHmm".length();
+    private static final int DESCRIPTION_OFFSET = 1 + SEPARATOR_LENGTH + 1 + SEPARATOR_LENGTH;
+
+    private TaskRecordDecoder() {
+    }
+
+    /**
+     * Decodes a whole record into a Task.
+     *
+     * @param record The record to decode, without a line terminator.
+     * @return The decoded task.
+     * @throws ArtsException If the record is malformed.
+     */
+    public static Task decode(CharSequence record) throws ArtsException {
+        return decode(record, 0, record.length());
+    }
+
+    /**
+     * Decodes the record between the given offsets of a larger character sequence into a Task.
+     *
+     * @param chars The characters containing the record.
+     * @param start The offset of the first character of the record.
+     * @param end The offset just past the last character of the record.
+     * @return The decoded task.
+     * @throws ArtsException If the record is malformed.
+     */
+    public static Task decode(CharSequence chars, int start, int end) throws ArtsException {
+        assert chars != null : "Record cannot be null";
+        assert 0 <= start && start <= end && end <= chars.length() : "Record offsets out of range";
+
+        if (end - start < DESCRIPTION_OFFSET + 1) {
+            throw error(chars, start, end, "record is too short");
+        }
+        char type = chars.charAt(start);
+        expectSeparator(chars, start + 1, start, end);
+        boolean isDone = parseDone(chars, start + 1 + SEPARATOR_LENGTH, start, end);
+        expectSeparator(chars, start + 2 + SEPARATOR_LENGTH, start, end);
+        int descriptionStart = start + DESCRIPTION_OFFSET;
+
+        Task task;
+        switch (type) {
+        case 'T':
+            task = new Todo(parseDescription(chars, descriptionStart, end, start, end));
+            break;
+        case 'D':
+            int byStart = end - TIMESTAMP_LENGTH;
+            int deadlineDescriptionEnd = byStart - SEPARATOR_LENGTH;
+            checkRoom(chars, descriptionStart, deadlineDescriptionEnd, start, end, "deadline");
+            expectSeparator(chars, deadlineDescriptionEnd, start, end);
+            task = new Deadline(parseDescription(chars, descriptionStart, deadlineDescriptionEnd, start, end),
+                    parseTimestamp(chars, byStart, start, end));
+            break;
+        case 'E':
+            int toStart = end - TIMESTAMP_LENGTH;
+            int fromStart = toStart - SEPARATOR_LENGTH - TIMESTAMP_LENGTH;
+            int eventDescriptionEnd = fromStart - SEPARATOR_LENGTH;
+            checkRoom(chars, descriptionStart, eventDescriptionEnd, start, end, "event");
+            expectSeparator(chars, toStart - SEPARATOR_LENGTH, start, end);
+            expectSeparator(chars, eventDescriptionEnd, start, end);
+            LocalDateTime from = parseTimestamp(chars, fromStart, start, end);
+            LocalDateTime to = parseTimestamp(chars, toStart, start, end);
+            if (from.isAfter(to)) {
+                throw error(chars, start, end, "event starts after it ends");
+            }
+            task = new Event(parseDescription(chars, descriptionStart, eventDescriptionEnd, start, end), from, to);
+            break;
+        default:
+            throw error(chars, start, end, "unknown task type '" + type + "'");
+        }
+
+        if (isDone) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    private static void checkRoom(CharSequence chars, int descriptionStart, int descriptionEnd,
+                                  int start, int end, String kind) throws ArtsException {
+        if (descriptionEnd <= descriptionStart) {
+            throw error(chars, start, end, kind + " record is missing its description or dates");
+        }
+    }
+
+    private static void expectSeparator(CharSequence chars, int offset, int start, int end) throws ArtsException {
+        if (offset < start || offset + SEPARATOR_LENGTH > end || chars.charAt(offset) != ' '
+                || chars.charAt(offset + 1) != '|' || chars.charAt(offset + 2) != ' ') {
+            throw error(chars, start, end, "expected '" + SEPARATOR + "' at column " + (offset - start + 1));
+        }
+    }
+
+    private static boolean parseDone(CharSequence chars, int offset, int start, int end) throws ArtsException {
+        char done = chars.charAt(offset);
+        if (done == '1') {
+            return true;
+        } else if (done == '0') {
+            return false;
+        }
+        throw error(chars, start, end, "completion status must be 0 or 1");
+    }
+
+    private static String parseDescription(CharSequence chars, int from, int to, int start, int end)
+            throws ArtsException {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(chars.charAt(i))) {
+                return chars.subSequence(from, to).toString();
+            }
+        }
+        throw error(chars, start, end, "description is empty");
+    }
+
+    /**
+     * Parses a timestamp in the {@code yyyy-MM-dd HHmm} layout starting at the given offset.
+     */
+    private static LocalDateTime parseTimestamp(CharSequence chars, int offset, int start, int end)
+            throws ArtsException {
+        if (chars.charAt(offset + 4) != '-' || chars.charAt(offset + 7) != '-'
+                || chars.charAt(offset + 10) != ' ') {
+            throw error(chars, start, end, "date must use the yyyy-MM-dd HHmm format");
+        }
+        int year = parseDigits(chars, offset, 4, start, end);
+        int month = parseDigits(chars, offset + 5, 2, start, end);
+        int day = parseDigits(chars, offset + 8, 2, start, end);
+        int hour = parseDigits(chars, offset + 11, 2, start, end);
+        int minute = parseDigits(chars, offset + 13, 2, start, end);
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute);
+        } catch (DateTimeException e) {
+            throw error(chars, start, end, e.getMessage());
+        }
+    }
+
+    private static int parseDigits(CharSequence chars, int offset, int count, int start, int end)
+            throws ArtsException {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = chars.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw error(chars, start, end, "date must use the yyyy-MM-dd HHmm format");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static ArtsException error(CharSequence chars, int start, int end, String reason) {
+        return new ArtsException("Invalid task record '" + chars.subSequence(start, end) + "': " + reason + ".");
+    }
+}
@@ -17,25 +17,26 @@ public class Todo extends Task {
     }
 
     /**
-     * Returns a string representation of the todo task, including its type and description.
+     * Appends a string representation of the todo task, including its type and description.
      *
-     * @return A string representing the todo task.
+     * @param sb The builder to append to.
+     * @return The builder.
      */
     @Override
-    public String toString() {
-        assert description != null : "Description should not be null when converting to string";
-        return "[T]" + super.toString();
+    public StringBuilder appendTo(StringBuilder sb) {
+        return super.appendTo(sb.append("[T]"));
     }
 
     /**
-     * Returns a string representation of the todo task formatted for file storage.
+     * Appends a string representation of the todo task formatted for file storage.
      * This includes the task type, completion status, and description.
      *
-     * @return A string formatted for storing the todo task in a file.
+     * @param sb The builder to append to.
+     * @return The builder.
      */
     @Override
-    public String toFileFormat() {
+    public StringBuilder appendFileFormatTo(StringBuilder sb) {
         assert description != null : "Description should not be null when converting to file format";
-        return "T | " + (isDone ? "1" : "0") + " | " + description;
+        return sb.append("T | ").append(isDone ? '1' : '0').append(" | ").append(description);
     }
 }
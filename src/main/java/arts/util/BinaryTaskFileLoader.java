@@ -0,0 +1,159 @@
+package arts.util;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+
+import arts.ArtsException;
+import arts.task.Deadline;
+import arts.task.Event;
+import arts.task.Task;
+import arts.task.Todo;
+
+/**
+ * Represents a loader for task files written in the {@link BinaryTaskFormat}.
+ * The file is memory-mapped and decoded in a single pass, and each distinct description is decoded once.
+ */
+public class BinaryTaskFileLoader {
+    private static final String CORRUPT_FILE_MESSAGE = "Error loading tasks: the binary task file is corrupt";
+
+    private final Path path;
+    private String header;
+
+    /**
+     * Constructs a BinaryTaskFileLoader for the task file at the specified path.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     */
+    public BinaryTaskFileLoader(String filePath) {
+        assert filePath != null && !filePath.trim().isEmpty() : "File path cannot be null or empty";
+        this.path = Path.of(filePath);
+    }
+
+    /**
+     * Returns the header string stored in the file by the last load, if any.
+     *
+     * @return The header, or null if the file has none.
+     */
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * Loads every task in the file, in file order.
+     *
+     * @return An ArrayList of tasks loaded from the file.
+     * @throws ArtsException If the file cannot be read, has an unsupported version, or is corrupt.
+     */
+    public ArrayList<Task> load() throws ArtsException {
+        header = null;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            for (byte expected : BinaryTaskFormat.MAGIC) {
+                if (buffer.get() != expected) {
+                    throw new ArtsException(CORRUPT_FILE_MESSAGE + " (it does not start with the format's magic).");
+                }
+            }
+            int version = buffer.get() & 0xFF;
+            if (version != BinaryTaskFormat.VERSION) {
+                throw new ArtsException("Error loading tasks: unsupported binary task file version " + version + ".");
+            }
+            String storedHeader = readString(buffer);
+            header = storedHeader.isEmpty() ? null : storedHeader;
+
+            String[] table = new String[readCount(buffer)];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = readString(buffer);
+            }
+
+            int count = readCount(buffer);
+            ArrayList<Task> tasks = new ArrayList<>(Math.min(count, buffer.remaining()));
+            for (int i = 0; i < count; i++) {
+                tasks.add(readTask(buffer, table));
+            }
+            if (buffer.hasRemaining()) {
+                throw new ArtsException(CORRUPT_FILE_MESSAGE + " (it has data after the last task).");
+            }
+            return tasks;
+        } catch (BufferUnderflowException e) {
+            throw new ArtsException(CORRUPT_FILE_MESSAGE + " (it ends part way through a task).");
+        } catch (IOException e) {
+            throw new ArtsException("Error loading tasks: " + e.getMessage());
+        }
+    }
+
+    private Task readTask(MappedByteBuffer buffer, String[] table) throws ArtsException {
+        int typeByte = buffer.get() & 0xFF;
+        String description = table[readIndex(buffer, table.length)];
+        Task task;
+        try {
+            switch (typeByte & BinaryTaskFormat.TYPE_MASK) {
+            case BinaryTaskFormat.TYPE_TODO:
+                task = new Todo(description);
+                break;
+            case BinaryTaskFormat.TYPE_DEADLINE:
+                task = new Deadline(description,
+                        BinaryTaskFormat.fromEpochMinute(BinaryTaskFormat.unZigZag(readVarLong(buffer))));
+                break;
+            case BinaryTaskFormat.TYPE_EVENT:
+                long from = BinaryTaskFormat.unZigZag(readVarLong(buffer));
+                long duration = readVarLong(buffer);
+                task = new Event(description, BinaryTaskFormat.fromEpochMinute(from),
+                        BinaryTaskFormat.fromEpochMinute(from + duration));
+                break;
+            default:
+                throw new ArtsException(CORRUPT_FILE_MESSAGE + " (unknown task type " + typeByte + ").");
+            }
+        } catch (DateTimeException e) {
+            throw new ArtsException(CORRUPT_FILE_MESSAGE + " (" + e.getMessage() + ").");
+        }
+        if ((typeByte & BinaryTaskFormat.DONE_FLAG) != 0) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    private static String readString(MappedByteBuffer buffer) throws ArtsException {
+        int length = readCount(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readIndex(MappedByteBuffer buffer, int size) throws ArtsException {
+        long index = readVarLong(buffer);
+        if (index >= size) {
+            throw new ArtsException(CORRUPT_FILE_MESSAGE + " (description " + index + " does not exist).");
+        }
+        return (int) index;
+    }
+
+    private static int readCount(MappedByteBuffer buffer) throws ArtsException {
+        long count = readVarLong(buffer);
+        if (count > Integer.MAX_VALUE) {
+            throw new ArtsException(CORRUPT_FILE_MESSAGE + " (a count is too large).");
+        }
+        return (int) count;
+    }
+
+    private static long readVarLong(MappedByteBuffer buffer) throws ArtsException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new ArtsException(CORRUPT_FILE_MESSAGE + " (a number is too long).");
+    }
+}
@@ -0,0 +1,148 @@
+package arts.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+
+import arts.task.Deadline;
+import arts.task.Event;
+import arts.task.Task;
+
+/**
+ * Represents the layout of the binary task file and the encoding of tasks into it.
+ * A file starts with the magic bytes {@code ARTS}, a version byte and an optional header string.
+ * Then comes a table of distinct descriptions, followed by one record per task. Each record is a type byte,
+ * whose high bit marks the task as done, followed by the index of its description in the table.
+ * Deadlines add their due time and events add their start time and duration, all in minutes.
+ * Every number is written as a variable-length integer, and times are minutes since the epoch in UTC.
+ */
+public class BinaryTaskFormat {
+    /** The current version of the format. */
+    public static final int VERSION = 1;
+
+    static final byte[] MAGIC = {'A', 'R', 'T', 'S'};
+    static final int TYPE_TODO = 0;
+    static final int TYPE_DEADLINE = 1;
+    static final int TYPE_EVENT = 2;
+    static final int DONE_FLAG = 0x80;
+    static final int TYPE_MASK = 0x7F;
+
+    private BinaryTaskFormat() {
+    }
+
+    /**
+     * Returns whether the file at the given path starts with the binary format's magic bytes.
+     *
+     * @param path The path of the file to check.
+     * @return true if the file is a binary task file, otherwise false.
+     * @throws IOException If the file cannot be read.
+     */
+    public static boolean isBinary(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] start = in.readNBytes(MAGIC.length);
+            if (start.length < MAGIC.length) {
+                return false;
+            }
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (start[i] != MAGIC[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Encodes the tasks in the binary format. The stream should be buffered, since it is written byte by byte.
+     *
+     * @param tasks The tasks to write.
+     * @param header An optional header string, or null for none.
+     * @param out The stream to write to.
+     * @throws IOException If the stream cannot be written.
+     */
+    public static void write(List<Task> tasks, String header, OutputStream out) throws IOException {
+        assert tasks != null : "Tasks list cannot be null";
+        out.write(MAGIC);
+        out.write(VERSION);
+        writeString(out, header == null ? "" : header);
+
+        HashMap<String, Integer> indexes = new HashMap<>();
+        int[] descriptionIndexes = new int[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            descriptionIndexes[i] = indexes.computeIfAbsent(tasks.get(i).getDescription(), key -> indexes.size());
+        }
+        String[] table = new String[indexes.size()];
+        indexes.forEach((description, index) -> table[index] = description);
+        writeVarLong(out, table.length);
+        for (String description : table) {
+            writeString(out, description);
+        }
+
+        writeVarLong(out, tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            assert task != null : "Task to be saved should not be null";
+            int doneFlag = task.isDone() ? DONE_FLAG : 0;
+            if (task instanceof Deadline) {
+                out.write(TYPE_DEADLINE | doneFlag);
+                writeVarLong(out, descriptionIndexes[i]);
+                writeVarLong(out, zigZag(toEpochMinute(((Deadline) task).getBy())));
+            } else if (task instanceof Event) {
+                Event event = (Event) task;
+                long from = toEpochMinute(event.getFrom());
+                out.write(TYPE_EVENT | doneFlag);
+                writeVarLong(out, descriptionIndexes[i]);
+                writeVarLong(out, zigZag(from));
+                writeVarLong(out, toEpochMinute(event.getTo()) - from);
+            } else {
+                out.write(TYPE_TODO | doneFlag);
+                writeVarLong(out, descriptionIndexes[i]);
+            }
+        }
+    }
+
+    static long toEpochMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    static LocalDateTime fromEpochMinute(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Maps signed numbers to unsigned ones so that small negative numbers also have short encodings.
+     */
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes a non-negative number seven bits at a time, lowest bits first, with the high bit of
+     * each byte set when more bytes follow.
+     */
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        assert value >= 0 : "Only non-negative numbers can be written as variable-length integers";
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
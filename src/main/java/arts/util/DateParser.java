@@ -0,0 +1,361 @@
+package arts.util;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Represents a parser for the dates and times typed by the user. The layout is detected from the shape of
+ * the input and its digits are read directly, so input that is not understood is reported by returning null
+ * rather than by trying a list of formatters and catching an exception from each one that fails.
+ *
+ * <p>A date may be written as {@code yyyy-MM-dd} or {@code yyyy/MM/dd}, as {@code d/M/yyyy} or {@code d.M.yyyy},
+ * as {@code 31 Dec 2023} or {@code Dec 31 2023}, or as {@code today},
+ * {@code tomorrow}, {@code yesterday} or a day of the week such as {@code fri}, which means the next such day
+ * after today. A time follows the date after a space and may be written as {@code HHmm}, {@code H:mm},
+ * {@code 6pm} or {@code 6:30 pm}. The two may also be joined by a {@code T}, as in {@code 2023-12-31T23:59}.
+ */
+public class DateParser {
+    /** The message given when a date or a date and time is not understood, listing the accepted forms. */
+    public static final String FORMAT_ERROR_MESSAGE = "Invalid date format. Please write a date such as "
+            + "2024-08-29, 29/8/2024, 29 Aug 2024, tomorrow or fri, followed where a time is needed "
+            + "by a time such as 1800, 18:00 or 6pm.";
+
+    private static final String[] DAY_WORDS = {"today", "tomorrow", "yesterday", "tmr"};
+    private static final int[] DAY_OFFSETS = {0, 1, -1, 1};
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final int NO_TIME = -1;
+
+    private final Clock clock;
+
+    /**
+     * Constructs a DateParser that reads relative days such as {@code tomorrow} from the system clock.
+     */
+    public DateParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a DateParser that reads relative days such as {@code tomorrow} from the given clock.
+     *
+     * @param clock The clock giving the current date.
+     */
+    public DateParser(Clock clock) {
+        assert clock != null : "Clock cannot be null";
+        this.clock = clock;
+    }
+
+    /**
+     * Parses a date without a time.
+     *
+     * @param input The text to parse. Surrounding whitespace is ignored.
+     * @return The date, or null if the input is not a valid date.
+     */
+    public LocalDate parseDate(String input) {
+        assert input != null : "Date input cannot be null";
+        int start = skipSpaces(input, 0);
+        int end = trimEnd(input, start, input.length());
+        long epochDay = parseDay(input, start, end);
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Parses a date followed by a time.
+     *
+     * @param input The text to parse. Surrounding whitespace is ignored.
+     * @return The date and time, or null if the input is not a valid date followed by a valid time.
+     */
+    public LocalDateTime parseDateTime(String input) {
+        assert input != null : "Date input cannot be null";
+        int start = skipSpaces(input, 0);
+        int end = trimEnd(input, start, input.length());
+
+        int timeStart = lastIndexOfSpace(input, start, end);
+        if (timeStart > start && isMeridiem(input, timeStart + 1, end)) {
+            // A time such as "6:30 pm" holds a space of its own
+            timeStart = lastIndexOfSpace(input, start, trimEnd(input, start, timeStart));
+        }
+        int dateEnd;
+        if (timeStart >= 0) {
+            dateEnd = trimEnd(input, start, timeStart);
+            timeStart++;
+        } else {
+            timeStart = input.indexOf('T', start);
+            if (timeStart <= start || timeStart >= end || !isDigit(input.charAt(timeStart - 1))) {
+                return null;
+            }
+            dateEnd = timeStart;
+            timeStart++;
+        }
+        if (dateEnd > start && input.charAt(dateEnd - 1) == ',') {
+            dateEnd--;
+        }
+
+        int minuteOfDay = parseTime(input, skipSpaces(input, timeStart), end);
+        if (minuteOfDay == NO_TIME) {
+            return null;
+        }
+        long epochDay = parseDay(input, start, dateEnd);
+        if (epochDay == NO_DATE) {
+            return null;
+        }
+        return LocalDate.ofEpochDay(epochDay).atTime(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * Returns the epoch day of the date in the given range, or {@link #NO_DATE} if it is not a valid date.
+     */
+    private long parseDay(String s, int start, int end) {
+        if (start >= end) {
+            return NO_DATE;
+        }
+        char first = s.charAt(start);
+        if (isDigit(first)) {
+            return indexOfLetter(s, start, end) < 0 ? parseNumericDate(s, start, end) : parseNamedDate(s, start, end);
+        }
+        long relative = parseRelativeDay(s, start, end);
+        return relative != NO_DATE ? relative : parseNamedDate(s, start, end);
+    }
+
+    /**
+     * Parses {@code yyyy-M-d} or {@code yyyy/M/d}, or {@code d/M/yyyy} or {@code d.M.yyyy}, with the same
+     * separator used twice. A day-first date cannot use {@code -}, so it is never mistaken for a year-first one.
+     */
+    private static long parseNumericDate(String s, int start, int end) {
+        int firstEnd = skipDigits(s, start, end);
+        if (firstEnd >= end) {
+            return NO_DATE;
+        }
+        int secondStart = firstEnd + 1;
+        int secondEnd = skipDigits(s, secondStart, end);
+        if (secondEnd >= end || s.charAt(secondEnd) != s.charAt(firstEnd)) {
+            return NO_DATE;
+        }
+        int thirdStart = secondEnd + 1;
+        if (skipDigits(s, thirdStart, end) != end) {
+            return NO_DATE;
+        }
+
+        char separator = s.charAt(firstEnd);
+        int month = parseNumber(s, secondStart, secondEnd, 2);
+        if (firstEnd - start == 4 && (separator == '-' || separator == '/')) {
+            return toEpochDay(parseNumber(s, start, firstEnd, 4), month, parseNumber(s, thirdStart, end, 2));
+        } else if (end - thirdStart == 4 && (separator == '/' || separator == '.')) {
+            return toEpochDay(parseNumber(s, thirdStart, end, 4), month, parseNumber(s, start, firstEnd, 2));
+        }
+        return NO_DATE;
+    }
+
+    /**
+     * Parses {@code d MMM yyyy} or {@code MMM d yyyy}, where the month is its full name or at least its first
+     * three letters, in any case, and a comma may follow the day.
+     */
+    private static long parseNamedDate(String s, int start, int end) {
+        int firstEnd = indexOfSpace(s, start, end);
+        if (firstEnd < 0) {
+            return NO_DATE;
+        }
+        int secondStart = skipSpaces(s, firstEnd);
+        int secondEnd = indexOfSpace(s, secondStart, end);
+        if (secondEnd < 0) {
+            return NO_DATE;
+        }
+        int yearStart = skipSpaces(s, secondEnd);
+
+        int dayStart = start;
+        int dayEnd = firstEnd;
+        int monthStart = secondStart;
+        int monthEnd = secondEnd;
+        if (!isDigit(s.charAt(start))) {
+            dayStart = secondStart;
+            dayEnd = secondEnd;
+            monthStart = start;
+            monthEnd = firstEnd;
+        }
+        if (dayEnd > dayStart && s.charAt(dayEnd - 1) == ',') {
+            dayEnd--;
+        }
+        if (skipDigits(s, dayStart, dayEnd) != dayEnd || skipDigits(s, yearStart, end) != end
+                || end - yearStart != 4) {
+            return NO_DATE;
+        }
+        int month = parseMonth(s, monthStart, monthEnd);
+        if (month == 0) {
+            return NO_DATE;
+        }
+        return toEpochDay(parseNumber(s, yearStart, end, 4), month, parseNumber(s, dayStart, dayEnd, 2));
+    }
+
+    private long parseRelativeDay(String s, int start, int end) {
+        LocalDate today = LocalDate.now(clock);
+        for (int i = 0; i < DAY_WORDS.length; i++) {
+            if (equalsIgnoreCase(s, start, end, DAY_WORDS[i])) {
+                return today.toEpochDay() + DAY_OFFSETS[i];
+            }
+        }
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (isAbbreviation(s, start, end, day.name())) {
+                int daysAhead = (day.getValue() - today.getDayOfWeek().getValue() + 6) % 7 + 1;
+                return today.toEpochDay() + daysAhead;
+            }
+        }
+        return NO_DATE;
+    }
+
+    /**
+     * Returns the month named in the given range, from 1 to 12, or 0 if it does not name a month.
+     */
+    private static int parseMonth(String s, int start, int end) {
+        for (Month month : Month.values()) {
+            if (isAbbreviation(s, start, end, month.name())) {
+                return month.getValue();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the minute of the day of the time in the given range, or {@link #NO_TIME} if it is not a valid time.
+     * The time is {@code HHmm}, {@code H:mm}, or either of {@code h} and {@code h:mm} followed by am or pm.
+     */
+    private static int parseTime(String s, int start, int end) {
+        int hourEnd = skipDigits(s, start, end);
+        int hourDigits = hourEnd - start;
+        int digitsEnd = hourEnd;
+        int hour;
+        int minute = 0;
+        if (hourEnd < end && s.charAt(hourEnd) == ':') {
+            digitsEnd = hourEnd + 3;
+            if (hourDigits < 1 || hourDigits > 2 || skipDigits(s, hourEnd + 1, end) != digitsEnd) {
+                return NO_TIME;
+            }
+            hour = parseNumber(s, start, hourEnd, 2);
+            minute = parseNumber(s, hourEnd + 1, digitsEnd, 2);
+        } else if (hourDigits == 4) {
+            hour = parseNumber(s, start, start + 2, 2);
+            minute = parseNumber(s, start + 2, hourEnd, 2);
+        } else if ((hourDigits == 1 || hourDigits == 2) && hourEnd < end) {
+            hour = parseNumber(s, start, hourEnd, 2);
+        } else {
+            return NO_TIME;
+        }
+        if (minute > 59) {
+            return NO_TIME;
+        }
+
+        if (digitsEnd == end) {
+            return hour <= 23 ? hour * 60 + minute : NO_TIME;
+        }
+        int meridiemStart = skipSpaces(s, digitsEnd);
+        if (!isMeridiem(s, meridiemStart, end) || hour < 1 || hour > 12) {
+            return NO_TIME;
+        }
+        boolean isPm = Character.toLowerCase(s.charAt(meridiemStart)) == 'p';
+        return (hour % 12 + (isPm ? 12 : 0)) * 60 + minute;
+    }
+
+    private static long toEpochDay(int year, int month, int day) {
+        if (year < 0 || month < 1 || month > 12 || day < 1
+                || day > Month.of(month).length(Year.isLeap(year))) {
+            return NO_DATE;
+        }
+        return LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    /**
+     * Returns the value of the digits in the given range, or -1 if the range is empty, longer than
+     * the given number of digits, or holds anything but digits.
+     */
+    private static int parseNumber(String s, int start, int end, int maxDigits) {
+        if (start >= end || end - start > maxDigits) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isMeridiem(String s, int start, int end) {
+        return equalsIgnoreCase(s, start, end, "am") || equalsIgnoreCase(s, start, end, "pm");
+    }
+
+    /**
+     * Returns whether the given range is the given upper-case name, or at least its first three letters,
+     * in any case.
+     */
+    private static boolean isAbbreviation(String s, int start, int end, String name) {
+        int length = end - start;
+        if (length < 3 || length > name.length()) {
+            return false;
+        }
+        return s.regionMatches(true, start, name, 0, length);
+    }
+
+    private static boolean equalsIgnoreCase(String s, int start, int end, String word) {
+        return end - start == word.length() && s.regionMatches(true, start, word, 0, word.length());
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int skipDigits(String s, int start, int end) {
+        int i = start;
+        while (i < end && isDigit(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipSpaces(String s, int start) {
+        int i = start;
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int trimEnd(String s, int start, int end) {
+        int i = end;
+        while (i > start && Character.isWhitespace(s.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static int indexOfSpace(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.isWhitespace(s.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfLetter(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.isLetter(s.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfSpace(String s, int start, int end) {
+        for (int i = end - 1; i >= start; i--) {
+            if (Character.isWhitespace(s.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,334 @@
+package arts.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+
+import arts.ArtsException;
+import arts.task.Task;
+import arts.task.TaskList;
+
+/**
+ * Represents an append-only log of task list mutations that is kept next to the task file.
+ * Each mutation is written as one short line, so recording it costs the same regardless of
+ * the size of the list. The log is replayed on top of the last snapshot when tasks are loaded.
+ */
+public class Journal {
+    public static final String REORDER_DEADLINES = "DEADLINES";
+    public static final String REORDER_EVENTS = "EVENTS";
+
+    private static final String SEPARATOR = " | ";
+    private static final String GENERATION = "G";
+    private static final String ADD = "A";
+    private static final String MARK = "M";
+    private static final String UNMARK = "U";
+    private static final String DELETE = "X";
+    private static final String REORDER = "R";
+
+    private final String journalPath;
+    private FileOutputStream stream;
+    private BufferedWriter writer;
+    private long generation;
+    private int recordCount;
+
+    /**
+     * Constructs a Journal that appends to the file at the specified path.
+     * The journal is not writable until {@link #open(long)} is called.
+     *
+     * @param journalPath The path of the active journal file.
+     */
+    public Journal(String journalPath) {
+        assert journalPath != null && !journalPath.trim().isEmpty() : "Journal path cannot be null or empty";
+        this.journalPath = journalPath;
+    }
+
+    /**
+     * Opens the active journal for appending. A new journal file starts with a generation line
+     * so that it can later be matched against the snapshot it belongs to.
+     *
+     * @param generation The generation to stamp on the journal if it is newly created.
+     * @throws ArtsException If the journal file cannot be opened.
+     */
+    public void open(long generation) throws ArtsException {
+        File file = new File(journalPath);
+        try {
+            if (file.exists() && file.length() > 0) {
+                this.generation = readGeneration(file);
+                openWriter(file, true);
+            } else {
+                this.generation = generation;
+                openWriter(file, false);
+                writeLine(GENERATION + SEPARATOR + generation);
+            }
+        } catch (IOException e) {
+            throw new ArtsException("Error opening journal: " + e.getMessage());
+        }
+    }
+
+    private void openWriter(File file, boolean isAppending) throws IOException {
+        stream = new FileOutputStream(file, isAppending);
+        writer = new BufferedWriter(new OutputStreamWriter(stream));
+    }
+
+    /**
+     * Returns the generation of the active journal.
+     *
+     * @return The generation of the active journal.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the number of records appended since the journal was last rotated.
+     *
+     * @return The number of records in the active journal.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Sets the number of records already present in the active journal, such as those found on load.
+     *
+     * @param recordCount The number of records in the active journal.
+     */
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Appends a record for a task added to the end of the list.
+     *
+     * @param task The task that was added.
+     * @throws ArtsException If the record cannot be written.
+     */
+    public void appendAdd(Task task) throws ArtsException {
+        append(ADD + SEPARATOR + task.toFileFormat());
+    }
+
+    /**
+     * Appends a record for a task marked as done.
+     *
+     * @param index The zero-based index of the task.
+     * @throws ArtsException If the record cannot be written.
+     */
+    public void appendMark(int index) throws ArtsException {
+        append(MARK + SEPARATOR + index);
+    }
+
+    /**
+     * Appends a record for a task marked as not done.
+     *
+     * @param index The zero-based index of the task.
+     * @throws ArtsException If the record cannot be written.
+     */
+    public void appendUnmark(int index) throws ArtsException {
+        append(UNMARK + SEPARATOR + index);
+    }
+
+    /**
+     * Appends a record for a deleted task.
+     *
+     * @param index The zero-based index of the task.
+     * @throws ArtsException If the record cannot be written.
+     */
+    public void appendDelete(int index) throws ArtsException {
+        append(DELETE + SEPARATOR + index);
+    }
+
+    /**
+     * Appends a record for a reordering of the list.
+     *
+     * @param order Either {@link #REORDER_DEADLINES} or {@link #REORDER_EVENTS}.
+     * @throws ArtsException If the record cannot be written.
+     */
+    public void appendReorder(String order) throws ArtsException {
+        assert order.equals(REORDER_DEADLINES) || order.equals(REORDER_EVENTS) : "Unknown reorder";
+        append(REORDER + SEPARATOR + order);
+    }
+
+    /**
+     * Closes the active journal and renames it aside so that a new, empty journal can take its place.
+     * The rotated journal keeps its generation in its file name until a snapshot covering it is written.
+     *
+     * @return The rotated journal file.
+     * @throws ArtsException If the journal cannot be closed, renamed or reopened.
+     */
+    public File rotate() throws ArtsException {
+        close();
+        File rotated = new File(journalPath + "." + generation);
+        if (!new File(journalPath).renameTo(rotated)) {
+            throw new ArtsException("Error rotating journal to " + rotated.getPath());
+        }
+        recordCount = 0;
+        open(generation + 1);
+        return rotated;
+    }
+
+    /**
+     * Closes the active journal if it is open.
+     *
+     * @throws ArtsException If the journal cannot be closed.
+     */
+    public void close() throws ArtsException {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new ArtsException("Error closing journal: " + e.getMessage());
+        } finally {
+            writer = null;
+            stream = null;
+        }
+    }
+
+    private void append(String record) throws ArtsException {
+        assert writer != null : "Journal must be opened before appending";
+        try {
+            writeLine(record);
+        } catch (IOException e) {
+            throw new ArtsException("Error writing journal: " + e.getMessage());
+        }
+        recordCount++;
+    }
+
+    /**
+     * Writes one line and syncs it to the disk, so that a record is only reported as saved
+     * once it would survive a crash of the machine and not just of the process.
+     */
+    private void writeLine(String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+        writer.flush();
+        stream.getFD().sync();
+    }
+
+    /**
+     * Reads the generation stamped on the first line of a journal file.
+     *
+     * @param file The journal file.
+     * @return The generation of the journal.
+     * @throws ArtsException If the journal has no valid generation line.
+     */
+    public static long readGeneration(File file) throws ArtsException {
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line = reader.readLine();
+            if (line == null || !line.startsWith(GENERATION + SEPARATOR)) {
+                throw new ArtsException("Journal " + file.getName() + " has no generation header.");
+            }
+            return Long.parseLong(line.substring(GENERATION.length() + SEPARATOR.length()).trim());
+        } catch (IOException | NumberFormatException e) {
+            throw new ArtsException("Error reading journal " + file.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replays every record of a journal file onto the given list of tasks.
+     * A final record without its line ending was cut short by a crash while it was being written,
+     * so it is removed from the file and skipped. Any other invalid record is treated as damage.
+     *
+     * @param file The journal file to replay.
+     * @param tasks The tasks to apply the records to.
+     * @return The number of records replayed.
+     * @throws ArtsException If the journal cannot be read or contains an invalid record.
+     */
+    public static int replay(File file, ArrayList<Task> tasks) throws ArtsException {
+        int count = 0;
+        try {
+            truncateIncompleteRecord(file);
+        } catch (IOException e) {
+            throw new ArtsException("Error repairing journal " + file.getName() + ": " + e.getMessage());
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            reader.readLine(); // Skip the generation line
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                apply(line, tasks);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new ArtsException("Error reading journal " + file.getName() + ": " + e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * Cuts the file back to the end of its last complete line. Records are written with their line
+     * ending last, so anything after the final line ending is a record that was never fully written.
+     */
+    private static void truncateIncompleteRecord(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            long end = raf.length();
+            while (end > 0) {
+                raf.seek(end - 1);
+                if (raf.read() == '\n') {
+                    break;
+                }
+                end--;
+            }
+            if (end < raf.length()) {
+                raf.getChannel().truncate(end);
+                raf.getChannel().force(true);
+            }
+        }
+    }
+
+    private static void apply(String record, ArrayList<Task> tasks) throws ArtsException {
+        int separator = record.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new ArtsException("Invalid journal record: " + record);
+        }
+        String type = record.substring(0, separator);
+        String payload = record.substring(separator + SEPARATOR.length());
+
+        switch (type) {
+        case ADD:
+            tasks.add(Task.fromFileFormat(payload));
+            break;
+        case MARK:
+            tasks.get(parseIndex(payload, tasks, record)).markAsDone();
+            break;
+        case UNMARK:
+            tasks.get(parseIndex(payload, tasks, record)).markAsNotDone();
+            break;
+        case DELETE:
+            tasks.remove(parseIndex(payload, tasks, record));
+            break;
+        case REORDER:
+            if (payload.equals(REORDER_DEADLINES)) {
+                new TaskList(tasks).sortDeadlines();
+            } else if (payload.equals(REORDER_EVENTS)) {
+                new TaskList(tasks).sortEvents();
+            } else {
+                throw new ArtsException("Invalid journal record: " + record);
+            }
+            break;
+        default:
+            throw new ArtsException("Invalid journal record: " + record);
+        }
+    }
+
+    private static int parseIndex(String payload, ArrayList<Task> tasks, String record) throws ArtsException {
+        try {
+            int index = Integer.parseInt(payload.trim());
+            if (index >= 0 && index < tasks.size()) {
+                return index;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the error below
+        }
+        throw new ArtsException("Invalid journal record: " + record);
+    }
+}
@@ -0,0 +1,346 @@
+package arts.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import arts.ArtsException;
+import arts.task.Task;
+import arts.task.TaskRecordDecoder;
+
+/**
+ * Represents a text task file used as a list without loading it into memory.
+ * Only the byte offset where each page of tasks starts is kept in memory; a page is decoded from the file
+ * when one of its tasks is needed and kept in a least-recently-used cache of a fixed number of pages.
+ * Changes are written to the file in place: marking a task rewrites its completion digit, deleting a task
+ * turns its line into a comment, and adding a task appends a line. The file therefore never has to be
+ * rewritten, and it stays readable by the normal loader, which skips comment lines.
+ * Even reading a task can change the page cache, so access to the list is synchronized.
+ */
+public class PagedTaskFile extends AbstractList<Task> implements RandomAccess {
+    /** The number of tasks in each page, apart from pages that have lost tasks to deletion. */
+    public static final int PAGE_SIZE = 256;
+
+    private static final int SCAN_BUFFER_BYTES = 1 << 20;
+    private static final int DONE_OFFSET = "T | ".length();
+    private static final byte COMMENT = '#';
+    private static final byte NEWLINE = '\n';
+
+    private final Path path;
+    private final FileChannel channel;
+    private final LinkedHashMap<Integer, Page> cache;
+
+    private long[] pageStarts = new long[16];
+    private int[] pageCounts = new int[16];
+    private int[] countTree = new int[17];
+    private int pageCount;
+    private int size;
+    private long end;
+
+    /**
+     * Represents the decoded tasks of one page and the file offset of each task's line.
+     */
+    private static class Page {
+        private final ArrayList<Task> tasks = new ArrayList<>(PAGE_SIZE);
+        private long[] offsets = new long[PAGE_SIZE];
+
+        void add(Task task, long offset) {
+            if (tasks.size() == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[tasks.size()] = offset;
+            tasks.add(task);
+        }
+
+        void remove(int position) {
+            tasks.remove(position);
+            System.arraycopy(offsets, position + 1, offsets, position, tasks.size() - position);
+        }
+    }
+
+    /**
+     * Opens a text task file and indexes where its pages start. Tasks are not decoded until they are used.
+     *
+     * @param filePath The path of the task file, which must exist.
+     * @param cachedPages The number of decoded pages to keep in memory.
+     * @throws ArtsException If the file cannot be opened or read.
+     */
+    public PagedTaskFile(String filePath, int cachedPages) throws ArtsException {
+        assert filePath != null && !filePath.trim().isEmpty() : "File path cannot be null or empty";
+        assert cachedPages > 0 : "At least one page must be cached";
+        this.path = Path.of(filePath);
+        this.cache = new LinkedHashMap<>(cachedPages * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Page> eldest) {
+                return size() > cachedPages;
+            }
+        };
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new ArtsException("Error opening task file: " + e.getMessage());
+        }
+        try {
+            indexPages();
+        } catch (IOException e) {
+            close();
+            throw new ArtsException("Error loading tasks: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Scans the file once, recording the offset of the first task of every page.
+     * A missing newline at the end of the file is added, so that appended tasks start on their own line.
+     */
+    private void indexPages() throws IOException {
+        end = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+        long position = 0;
+        boolean isLineStart = true;
+        byte last = NEWLINE;
+        while (position < end) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (isLineStart && b != COMMENT && b != NEWLINE && b != '\r') {
+                    addToLastPage(position + i);
+                }
+                isLineStart = b == NEWLINE;
+                last = b;
+            }
+            position += read;
+        }
+        if (last != NEWLINE) {
+            channel.write(ByteBuffer.wrap(new byte[] {NEWLINE}), end);
+            end++;
+        }
+    }
+
+    /**
+     * Counts a task whose line starts at the given offset into the last page, starting a new page if it is full.
+     */
+    private void addToLastPage(long offset) {
+        if (pageCount == 0 || pageCounts[pageCount - 1] >= PAGE_SIZE) {
+            if (pageCount == pageStarts.length) {
+                growPages();
+            }
+            pageStarts[pageCount] = offset;
+            pageCount++;
+        }
+        pageCounts[pageCount - 1]++;
+        updateCount(pageCount - 1, 1);
+        size++;
+    }
+
+    private void growPages() {
+        int capacity = pageStarts.length * 2;
+        pageStarts = Arrays.copyOf(pageStarts, capacity);
+        pageCounts = Arrays.copyOf(pageCounts, capacity);
+        countTree = new int[capacity + 1];
+        for (int page = 0; page < pageCount; page++) {
+            for (int node = page + 1; node <= capacity; node += node & -node) {
+                countTree[node] += pageCounts[page];
+            }
+        }
+    }
+
+    /**
+     * Adds to the count of a page in the tree of page counts, which finds the page holding a given index
+     * in logarithmic time even after deletions have left pages with fewer tasks.
+     */
+    private void updateCount(int page, int delta) {
+        for (int node = page + 1; node < countTree.length; node += node & -node) {
+            countTree[node] += delta;
+        }
+    }
+
+    /**
+     * Returns the page holding the task at the given index in the high half, and the task's position
+     * within that page in the low half.
+     */
+    private long locate(int index) {
+        int page = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(countTree.length - 1); step > 0; step >>= 1) {
+            int next = page + step;
+            if (next < countTree.length && countTree[next] <= remaining) {
+                page = next;
+                remaining -= countTree[next];
+            }
+        }
+        return ((long) page << 32) | remaining;
+    }
+
+    private Page getPage(int page) {
+        Page cached = cache.get(page);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Page decoded = decodePage(page);
+            cache.put(page, decoded);
+            return decoded;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Page decodePage(int page) throws IOException {
+        long start = pageStarts[page];
+        long pageEnd = page + 1 < pageCount ? pageStarts[page + 1] : end;
+        ByteBuffer bytes = ByteBuffer.allocate((int) (pageEnd - start));
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, start + bytes.position()) < 0) {
+                throw new IOException("The task file was truncated");
+            }
+        }
+
+        Page decoded = new Page();
+        byte[] array = bytes.array();
+        int lineStart = 0;
+        while (lineStart < array.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < array.length && array[lineEnd] != NEWLINE) {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && array[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+            if (contentEnd > lineStart && array[lineStart] != COMMENT) {
+                String line = new String(array, lineStart, contentEnd - lineStart, StandardCharsets.UTF_8);
+                try {
+                    decoded.add(TaskRecordDecoder.decode(line), start + lineStart);
+                } catch (ArtsException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        assert decoded.tasks.size() == pageCounts[page] : "Page should hold as many tasks as were counted";
+        return decoded;
+    }
+
+    @Override
+    public synchronized Task get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        long location = locate(index);
+        return getPage((int) (location >>> 32)).tasks.get((int) location);
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Appends a task by writing its line to the end of the file. Tasks can only be added at the end.
+     *
+     * @param index The index to add the task at, which must be the size of the list.
+     * @param task The task to add.
+     */
+    @Override
+    public synchronized void add(int index, Task task) {
+        assert task != null : "Task to be added cannot be null";
+        if (index != size) {
+            throw new UnsupportedOperationException("Tasks can only be added to the end of a paged task file");
+        }
+        byte[] line = (task.toFileFormat() + "\n").getBytes(StandardCharsets.UTF_8);
+        write(line, end);
+        long offset = end;
+        end += line.length;
+        addToLastPage(offset);
+        Page last = cache.get(pageCount - 1);
+        if (last != null) {
+            last.add(task, offset);
+        }
+        modCount++;
+    }
+
+    /**
+     * Removes a task by turning its line in the file into a comment.
+     *
+     * @param index The index of the task to remove.
+     * @return The removed task.
+     */
+    @Override
+    public synchronized Task remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        long location = locate(index);
+        int page = (int) (location >>> 32);
+        int position = (int) location;
+        Page decoded = getPage(page);
+        Task removed = decoded.tasks.get(position);
+        write(new byte[] {COMMENT}, decoded.offsets[position]);
+        decoded.remove(position);
+        pageCounts[page]--;
+        updateCount(page, -1);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Writes the completion status of the task at the given index to its line in the file.
+     * Call this after marking or unmarking the task.
+     *
+     * @param index The index of the task.
+     */
+    public synchronized void writeDone(int index) {
+        long location = locate(index);
+        Page decoded = getPage((int) (location >>> 32));
+        int position = (int) location;
+        byte done = (byte) (decoded.tasks.get(position).isDone() ? '1' : '0');
+        write(new byte[] {done}, decoded.offsets[position] + DONE_OFFSET);
+    }
+
+    /**
+     * Forces every change written so far to disk.
+     *
+     * @throws ArtsException If the file cannot be synced.
+     */
+    public void force() throws ArtsException {
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new ArtsException("Failed to save tasks to " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the file. The list cannot be used afterwards.
+     */
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing more can be done with the file
+        }
+    }
+
+    private void write(byte[] bytes, long offset) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
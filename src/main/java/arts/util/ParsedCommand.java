@@ -0,0 +1,67 @@
+package arts.util;
+
+import arts.enums.CommandType;
+
+/**
+ * Represents a line of user input split by the {@link Parser} into the command it names and the arguments
+ * that follow the command's keyword, with surrounding whitespace removed.
+ * A built-in command has a {@link CommandType}, whose name is also the command's name; a command added by
+ * a plugin has only a name.
+ */
+public class ParsedCommand {
+    private final String name;
+    private final CommandType type;
+    private final String arguments;
+
+    /**
+     * Constructs a ParsedCommand for a built-in command with the given type and arguments.
+     *
+     * @param type The type of the command.
+     * @param arguments The text after the command's keyword, trimmed, or an empty string if there is none.
+     */
+    public ParsedCommand(CommandType type, String arguments) {
+        this(type.name(), type, arguments);
+    }
+
+    /**
+     * Constructs a ParsedCommand with the given name, type and arguments.
+     *
+     * @param name The name of the command.
+     * @param type The type of the command, or null if it is not a built-in command.
+     * @param arguments The text after the command's keyword, trimmed, or an empty string if there is none.
+     */
+    public ParsedCommand(String name, CommandType type, String arguments) {
+        assert name != null : "Command name cannot be null";
+        assert type == null || type.name().equals(name) : "A built-in command is named after its type";
+        assert arguments != null : "Arguments cannot be null";
+        this.name = name;
+        this.type = type;
+        this.arguments = arguments;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the type of the command.
+     *
+     * @return The type, or null if the command is not a built-in command.
+     */
+    public CommandType getType() {
+        return type;
+    }
+
+    public String getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Returns whether anything follows the command's keyword.
+     *
+     * @return true if there are arguments, otherwise false.
+     */
+    public boolean hasArguments() {
+        return !arguments.isEmpty();
+    }
+}
@@ -1,51 +1,262 @@
 package arts.util;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import arts.ArtsException;
 import arts.enums.CommandType;
 
 /**
  * Represents the Parser class for interpreting user input and converting it into executable commands and arguments.
+ * The keywords of every command are kept in a trie, built once, that the input is walked through
+ * in a single pass without splitting or case-converting it. A keyword may have several words, such as
+ * {@code sort deadlines}, and each word of the input may be shortened to any prefix that leaves only one
+ * command possible, such as {@code dead} for {@code deadline} or {@code so d} for {@code sort deadlines}.
+ * A whole keyword, including an alias such as {@code dl}, is preferred to a longer keyword it is a prefix of.
+ * By default the commands are the {@link CommandType}s, but a parser can also be built for a set of named
+ * commands that includes others, such as those added by plugins.
  */
 public class Parser {
+    private static final String UNKNOWN_COMMAND_MESSAGE = "I'm sorry, but I don't know what that means.";
+    private static final int UNDERSCORE = 26;
+    private static final int SPACE = 27;
+    private static final Node BUILT_IN_KEYWORDS = buildKeywords(builtInKeywords());
+
+    private final Node keywords;
 
     /**
-     * Parses the command from the user input and determines the corresponding CommandType.
+     * Represents a node of the keyword trie, reached by the lower-case letters, underscores and single spaces
+     * of a keyword.
+     */
+    private static class Node {
+        private final Node[] children = new Node[SPACE + 1];
+        // The command and keyword that end here
+        private String command;
+        private CommandType type;
+        private String keyword;
+        // The only command with a keyword through here, or null if there are several
+        private String onlyCommand;
+        private boolean isShared;
+        // Where the current word of the keyword ends if only one way to finish it remains, otherwise this node
+        private Node wordEnd;
+
+        void addCommand(String name) {
+            if (!isShared && (onlyCommand == null || onlyCommand.equals(name))) {
+                onlyCommand = name;
+            } else {
+                onlyCommand = null;
+                isShared = true;
+            }
+        }
+    }
+
+    /**
+     * Constructs a Parser for the built-in commands.
+     */
+    public Parser() {
+        this.keywords = BUILT_IN_KEYWORDS;
+    }
+
+    /**
+     * Constructs a Parser for the given commands. A command named after a {@link CommandType} is parsed as
+     * that type; any other command is parsed with no type and is told apart by its name.
      *
-     * @param input The user input string containing the command.
-     * @return The CommandType corresponding to the command word in the input.
-     * @throws ArtsException If the command word is not recognized.
+     * @param keywordsByName The keywords of each command, in lower case, by the command's name.
+     * @throws IllegalArgumentException If a keyword has characters other than letters, underscores and single
+     *     spaces, or is used by more than one command.
      */
-    public CommandType parseCommand(String input) throws ArtsException {
-        assert input != null : "Input cannot be null";
-        String trimmedInput = input.trim().toLowerCase();
+    public Parser(Map<String, String[]> keywordsByName) {
+        assert keywordsByName != null : "Keywords cannot be null";
+        this.keywords = buildKeywords(keywordsByName);
+    }
+
+    private static Map<String, String[]> builtInKeywords() {
+        Map<String, String[]> keywordsByName = new LinkedHashMap<>();
+        for (CommandType type : CommandType.values()) {
+            keywordsByName.put(type.name(), type.getKeywords());
+        }
+        return keywordsByName;
+    }
+
+    private static Node buildKeywords(Map<String, String[]> keywordsByName) {
+        Map<String, CommandType> types = new HashMap<>();
+        for (CommandType type : CommandType.values()) {
+            types.put(type.name(), type);
+        }
 
-        // Check for specific multi-word commands first
-        if (trimmedInput.equals("sort deadlines")) {
-            return CommandType.SORT_DEADLINES;
-        } else if (trimmedInput.equals("sort events")) {
-            return CommandType.SORT_EVENTS;
+        Node root = new Node();
+        for (Map.Entry<String, String[]> entry : keywordsByName.entrySet()) {
+            String name = entry.getKey();
+            for (String keyword : entry.getValue()) {
+                if (keyword.isEmpty() || keyword.startsWith(" ") || keyword.endsWith(" ") || keyword.contains("  ")) {
+                    throw new IllegalArgumentException("Keyword '" + keyword + "' must be words separated by spaces");
+                }
+                Node node = root;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = keyword.charAt(i);
+                    int index = indexOf(c);
+                    if (index < 0 || c >= 'A' && c <= 'Z') {
+                        throw new IllegalArgumentException("Keyword '" + keyword
+                                + "' can only have lower-case letters, underscores and spaces");
+                    }
+                    if (node.children[index] == null) {
+                        node.children[index] = new Node();
+                    }
+                    node = node.children[index];
+                    node.addCommand(name);
+                }
+                if (node.command != null) {
+                    throw new IllegalArgumentException("Keyword '" + keyword + "' is used by both "
+                            + node.command + " and " + name);
+                }
+                node.command = name;
+                node.type = types.get(name);
+                node.keyword = keyword;
+            }
         }
+        findWordEnds(root);
+        return root;
+    }
 
-        // Split the input by space to get the first word
-        String[] parts = trimmedInput.split(" ", 2);
-        assert parts.length > 0 : "Input must contain at least one word";
-        String commandWord = parts[0].toUpperCase();
+    /**
+     * Sets where the current word ends for every node below the given one, following a chain of nodes that
+     * each have a single letter after them and end no keyword.
+     */
+    private static void findWordEnds(Node node) {
+        Node onlyLetter = null;
+        int childCount = 0;
+        for (int i = 0; i <= SPACE; i++) {
+            if (node.children[i] != null) {
+                findWordEnds(node.children[i]);
+                childCount++;
+                onlyLetter = i == SPACE ? null : node.children[i];
+            }
+        }
+        node.wordEnd = node.command == null && childCount == 1 && onlyLetter != null ? onlyLetter.wordEnd : node;
+    }
 
-        try {
-            return CommandType.valueOf(commandWord);
-        } catch (IllegalArgumentException e) {
-            throw new ArtsException("I'm sorry, but I don't know what that means.");
+    /**
+     * Returns the position of a character among a node's children, or -1 if no keyword has it.
+     */
+    private static int indexOf(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        } else if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        } else if (c == '_') {
+            return UNDERSCORE;
+        } else if (c == ' ') {
+            return SPACE;
         }
+        return -1;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t';
     }
 
     /**
-     * Parses the arguments from the user input, separating the command from its parameters.
+     * Parses the user input into its command type and the arguments after the command's keyword.
+     * The longest keyword that the input starts with, word by word, is used.
      *
      * @param input The user input string containing the command and arguments.
-     * @return An array where the first element is the command and the second is the arguments.
+     * @return The command type and its arguments.
+     * @throws ArtsException If the input does not start with a keyword, or with a prefix of only one command.
      */
-    public String[] parseArguments(String input) {
+    public ParsedCommand parse(String input) throws ArtsException {
         assert input != null : "Input cannot be null";
-        return input.trim().split(" ", 2);
+        int length = input.length();
+        int i = 0;
+        while (i < length && isSeparator(input.charAt(i))) {
+            i++;
+        }
+
+        Node node = keywords;
+        Node match = null;
+        int matchEnd = 0;
+        Node ambiguous = null;
+        while (i < length) {
+            // Walk one word of the input
+            while (node != null && i < length && !isSeparator(input.charAt(i))) {
+                int index = indexOf(input.charAt(i++));
+                node = index < 0 ? null : node.children[index];
+            }
+            if (node == null) {
+                break;
+            }
+            while (i < length && isSeparator(input.charAt(i))) {
+                i++;
+            }
+
+            Node end = node.wordEnd;
+            Node command = end.command != null ? end : node.onlyCommand != null ? findCommand(end) : null;
+            if (command != null) {
+                match = command;
+                matchEnd = i;
+            } else if (match == null) {
+                ambiguous = node;
+            }
+            node = end.children[SPACE];
+        }
+
+        if (match == null) {
+            throw new ArtsException(ambiguous == null ? UNKNOWN_COMMAND_MESSAGE : describeChoices(ambiguous));
+        }
+        return new ParsedCommand(match.command, match.type, input.substring(matchEnd).trim());
+    }
+
+    /**
+     * Returns the first node below the given one, including itself, that ends a keyword.
+     * Used for a prefix of a single command, where every keyword below leads to the same command.
+     */
+    private static Node findCommand(Node node) {
+        if (node.command != null) {
+            return node;
+        }
+        for (Node child : node.children) {
+            if (child != null) {
+                Node found = findCommand(child);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses the command from the user input and determines the corresponding CommandType.
+     *
+     * @param input The user input string containing the command.
+     * @return The CommandType corresponding to the command word in the input.
+     * @throws ArtsException If the command word is not recognized.
+     */
+    public CommandType parseCommand(String input) throws ArtsException {
+        return parse(input).getType();
+    }
+
+    /**
+     * Returns a message listing the commands a prefix could mean, naming each by the first keyword found.
+     */
+    private static String describeChoices(Node node) {
+        Map<String, String> keywords = new LinkedHashMap<>();
+        collectKeywords(node, keywords);
+        return "Did you mean " + String.join(" or ", keywords.values()) + "?";
+    }
+
+    private static void collectKeywords(Node node, Map<String, String> keywords) {
+        if (node.keyword != null) {
+            keywords.putIfAbsent(node.command, node.keyword);
+        }
+        // Spaces come first, so that the keyword of a command is found before its aliases with underscores
+        if (node.children[SPACE] != null) {
+            collectKeywords(node.children[SPACE], keywords);
+        }
+        for (int i = 0; i < SPACE; i++) {
+            if (node.children[i] != null) {
+                collectKeywords(node.children[i], keywords);
+            }
+        }
     }
 }
@@ -0,0 +1,195 @@
+package arts.util;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import arts.ArtsException;
+import arts.task.Task;
+
+/**
+ * Represents a background thread that writes task snapshots on behalf of commands.
+ * Commands submit the latest list and return immediately; the worker waits for the flush interval
+ * so that a burst of submissions is written as one group commit with a single sync.
+ * Submitting only marks the list as changed. The worker reads it while holding the list's read lock,
+ * so commands do not spend time copying the list and the worker never reads it while it is being changed.
+ */
+public class PersistenceWorker {
+    private final SnapshotWriter writer;
+    private final Lock readLock;
+    private final long flushIntervalMillis;
+    private final Object lock = new Object();
+    private final Thread thread;
+    private final Thread shutdownHook;
+
+    private long requested;
+    private long durable;
+    private boolean isRunning;
+    private ArtsException lastError;
+
+    /**
+     * Constructs a PersistenceWorker that flushes through the given writer.
+     *
+     * @param writer The writer used to write snapshots.
+     * @param readLock The read lock of the submitted list, held while the list is written.
+     * @param flushIntervalMillis How long to gather submissions before writing them, in milliseconds.
+     */
+    public PersistenceWorker(SnapshotWriter writer, Lock readLock, long flushIntervalMillis) {
+        assert writer != null : "SnapshotWriter cannot be null";
+        assert readLock != null : "Read lock cannot be null";
+        assert flushIntervalMillis >= 0 : "Flush interval cannot be negative";
+        this.writer = writer;
+        this.readLock = readLock;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.thread = new Thread(this::run, "arts-persistence");
+        this.thread.setDaemon(true);
+        this.shutdownHook = new Thread(this::flushOnExit, "arts-persistence-shutdown");
+    }
+
+    /**
+     * Starts the worker thread and registers a hook that flushes pending saves when the JVM exits.
+     */
+    public void start() {
+        synchronized (lock) {
+            isRunning = true;
+        }
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Submits the latest list of tasks to be written by the next group commit.
+     * The list is not copied; it must stay guarded by the read lock given to this worker.
+     * The list is staged even if the previous group commit failed, so it is retried with the next one.
+     *
+     * @param tasks The list of tasks to save.
+     * @throws ArtsException If the previous group commit failed.
+     */
+    public void submit(List<Task> tasks) throws ArtsException {
+        synchronized (lock) {
+            writer.stage(tasks, null);
+            requested++;
+            lock.notifyAll();
+            throwLastError();
+        }
+    }
+
+    /**
+     * Waits until every list submitted before this call has been written to disk.
+     *
+     * @throws ArtsException If the group commit failed or the wait was interrupted.
+     */
+    public void awaitDurable() throws ArtsException {
+        synchronized (lock) {
+            long target = requested;
+            while (durable < target) {
+                throwLastError();
+                if (!thread.isAlive()) {
+                    throw new ArtsException("Persistence worker stopped before tasks were saved.");
+                }
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ArtsException("Interrupted while waiting for tasks to be saved.");
+                }
+            }
+            throwLastError();
+        }
+    }
+
+    /**
+     * Stops the worker after writing any pending submissions.
+     *
+     * @throws ArtsException If the final group commit failed.
+     */
+    public void shutdown() throws ArtsException {
+        synchronized (lock) {
+            isRunning = false;
+            lock.notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down
+        }
+        synchronized (lock) {
+            throwLastError();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            long target;
+            synchronized (lock) {
+                while (isRunning && requested == durable) {
+                    waitQuietly(0);
+                }
+                if (requested == durable) {
+                    return;
+                }
+                if (isRunning && lastError == null && flushIntervalMillis > 0) {
+                    // Give the rest of the burst a chance to arrive before writing
+                    waitQuietly(flushIntervalMillis);
+                }
+                target = requested;
+            }
+
+            ArtsException error = null;
+            try {
+                writer.flush(readLock);
+            } catch (ArtsException e) {
+                error = e;
+            }
+
+            synchronized (lock) {
+                lastError = error;
+                if (error == null) {
+                    durable = Math.max(durable, target);
+                } else if (!isRunning) {
+                    // Nothing will retry after shutdown, so release the waiters with the error
+                    durable = requested;
+                }
+                lock.notifyAll();
+                if (error != null && isRunning) {
+                    waitQuietly(Math.max(flushIntervalMillis, 1));
+                }
+            }
+        }
+    }
+
+    private void waitQuietly(long millis) {
+        try {
+            if (millis == 0) {
+                lock.wait();
+            } else {
+                long deadline = System.currentTimeMillis() + millis;
+                long remaining = millis;
+                while (isRunning && remaining > 0) {
+                    lock.wait(remaining);
+                    remaining = deadline - System.currentTimeMillis();
+                }
+            }
+        } catch (InterruptedException e) {
+            isRunning = false;
+        }
+    }
+
+    private void flushOnExit() {
+        try {
+            shutdown();
+        } catch (ArtsException e) {
+            System.err.println("Failed to save tasks on exit: " + e.getMessage());
+        }
+    }
+
+    private void throwLastError() throws ArtsException {
+        if (lastError != null) {
+            throw lastError;
+        }
+    }
+}
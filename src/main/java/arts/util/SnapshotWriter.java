@@ -0,0 +1,265 @@
+package arts.util;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import arts.ArtsException;
+import arts.enums.StorageFormat;
+import arts.task.Task;
+
+/**
+ * Represents a writer that replaces the task file with a complete snapshot in a crash-safe way.
+ * The snapshot is streamed to a temporary file, forced to disk, and then atomically renamed over
+ * the old file, so a crash part way through leaves either the old or the new file, never a truncated one.
+ * Several saves can be staged and written together with a single sync. Staging only marks the list as
+ * changed; the list is read when it is flushed, optionally while holding its read lock.
+ * Snapshots are written either in the text format or in the {@link BinaryTaskFormat}.
+ */
+public class SnapshotWriter {
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int TEXT_BLOCK_CHARS = 1 << 16;
+    private static final long LOCK_POLL_MILLIS = 50;
+
+    private final Path target;
+    private final Path temp;
+    private final StorageFormat format;
+    private final Object stagedLock = new Object();
+    private List<Task> staged;
+    private String stagedHeader;
+    private int stagedCount;
+
+    /**
+     * Constructs a SnapshotWriter for the task file at the specified path, writing the text format.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     */
+    public SnapshotWriter(String filePath) {
+        this(filePath, StorageFormat.TEXT);
+    }
+
+    /**
+     * Constructs a SnapshotWriter for the task file at the specified path, writing the given format.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     * @param format The format in which snapshots are written.
+     */
+    public SnapshotWriter(String filePath, StorageFormat format) {
+        assert filePath != null && !filePath.trim().isEmpty() : "File path cannot be null or empty";
+        assert format != null : "Storage format cannot be null";
+        this.target = Path.of(filePath);
+        this.temp = Path.of(filePath + TEMP_SUFFIX);
+        this.format = format;
+    }
+
+    /**
+     * Writes the tasks durably, replacing the current task file.
+     *
+     * @param tasks The tasks to write.
+     * @throws ArtsException If the snapshot cannot be written, synced or renamed.
+     */
+    public void write(List<Task> tasks) throws ArtsException {
+        write(tasks, null);
+    }
+
+    /**
+     * Writes the tasks durably, replacing the current task file.
+     *
+     * @param tasks The tasks to write.
+     * @param header An optional line written before the tasks, or null for none.
+     * @throws ArtsException If the snapshot cannot be written, synced or renamed.
+     */
+    public synchronized void write(List<Task> tasks, String header) throws ArtsException {
+        assert tasks != null : "Tasks list cannot be null";
+        try {
+            replace(tasks, header, null);
+        } catch (IOException e) {
+            throw new ArtsException("Failed to save tasks to " + target + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stages the tasks to be written by the next {@link #flush(Lock)}, replacing any snapshot staged earlier.
+     * The list is not copied, so this takes the same time whatever its size. It is read when it is flushed,
+     * and the flush writes it as it is then, including any changes made after it was staged.
+     *
+     * @param tasks The tasks to stage.
+     * @param header An optional line written before the tasks, or null for none.
+     */
+    public void stage(List<Task> tasks, String header) {
+        assert tasks != null : "Tasks list cannot be null";
+        synchronized (stagedLock) {
+            staged = tasks;
+            stagedHeader = header;
+            stagedCount++;
+        }
+    }
+
+    /**
+     * Returns whether a snapshot is staged and not yet written.
+     *
+     * @return true if there is a staged snapshot, otherwise false.
+     */
+    public boolean hasStaged() {
+        synchronized (stagedLock) {
+            return staged != null;
+        }
+    }
+
+    /**
+     * Writes the most recently staged snapshot, if any, with a single sync, reading the staged list while
+     * holding its read lock. The lock is released once the tasks are written out, before they are synced.
+     * Waiting for the lock is given up if another thread writes the staged snapshot in the meantime,
+     * such as a thread that holds the list's write lock and saves the list itself.
+     *
+     * @param readLock The read lock of the staged list, or null if the list is not shared between threads.
+     * @return The number of saves that were coalesced into this write.
+     * @throws ArtsException If the snapshot cannot be written, synced or renamed.
+     */
+    public int flush(Lock readLock) throws ArtsException {
+        if (readLock != null && !lockWhileStaged(readLock)) {
+            return 0;
+        }
+        List<Task> tasks;
+        String header;
+        int count;
+        synchronized (stagedLock) {
+            tasks = staged;
+            header = stagedHeader;
+            count = stagedCount;
+            staged = null;
+            stagedHeader = null;
+            stagedCount = 0;
+        }
+        if (tasks == null) {
+            if (readLock != null) {
+                readLock.unlock();
+            }
+            return 0;
+        }
+        try {
+            replace(tasks, header, readLock);
+        } catch (IOException e) {
+            synchronized (stagedLock) {
+                // Keep the snapshot staged so that a later flush can retry it, unless a newer one replaced it
+                if (staged == null) {
+                    staged = tasks;
+                    stagedHeader = header;
+                }
+                stagedCount += count;
+            }
+            throw new ArtsException("Failed to save tasks to " + target + ": " + e.getMessage());
+        }
+        return count;
+    }
+
+    private boolean lockWhileStaged(Lock readLock) throws ArtsException {
+        try {
+            while (!readLock.tryLock(LOCK_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!hasStaged()) {
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArtsException("Interrupted while waiting to save tasks.");
+        }
+        return true;
+    }
+
+    /**
+     * Writes the tasks to the temporary file, syncs it and renames it over the task file.
+     * If a lock is given, it is held by the caller and is released as soon as the tasks are written out.
+     */
+    private synchronized void replace(List<Task> tasks, String header, Lock heldLock) throws IOException {
+        boolean isHeld = heldLock != null;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (format == StorageFormat.BINARY) {
+                BufferedOutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                BinaryTaskFormat.write(tasks, header, out);
+                out.flush();
+            } else {
+                writeText(channel, tasks, header);
+            }
+            if (isHeld) {
+                heldLock.unlock();
+                isHeld = false;
+            }
+            channel.force(true);
+        } finally {
+            if (isHeld) {
+                heldLock.unlock();
+            }
+        }
+        moveIntoPlace();
+        syncDirectory();
+    }
+
+    private void writeText(FileChannel channel, List<Task> tasks, String header) throws IOException {
+        BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+        if (header != null) {
+            writer.write(header);
+            writer.newLine();
+        }
+        // Lines are gathered in one builder and copied out in blocks, rather than creating a string per task
+        StringBuilder lines = new StringBuilder(TEXT_BLOCK_CHARS * 2);
+        char[] block = new char[TEXT_BLOCK_CHARS * 2];
+        String lineSeparator = System.lineSeparator();
+        for (Task task : tasks) {
+            assert task != null : "Task to be saved should not be null";
+            task.appendFileFormatTo(lines).append(lineSeparator);
+            if (lines.length() >= TEXT_BLOCK_CHARS) {
+                block = writeBlock(writer, lines, block);
+            }
+        }
+        writeBlock(writer, lines, block);
+        writer.flush();
+    }
+
+    /**
+     * Writes the gathered lines and empties the builder, returning the buffer to copy them through next time.
+     */
+    private static char[] writeBlock(BufferedWriter writer, StringBuilder lines, char[] block) throws IOException {
+        char[] buffer = block.length < lines.length() ? new char[lines.length()] : block;
+        lines.getChars(0, lines.length(), buffer, 0);
+        writer.write(buffer, 0, lines.length());
+        lines.setLength(0);
+        return buffer;
+    }
+
+    private void moveIntoPlace() throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the rename itself to disk by syncing the parent directory.
+     * Not every platform allows a directory to be opened, in which case this is skipped.
+     */
+    private void syncDirectory() {
+        Path directory = target.toAbsolutePath().getParent();
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be synced on this platform
+        }
+    }
+}
@@ -1,24 +1,46 @@
 package arts.util;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
 
 import arts.ArtsException;
+import arts.enums.StorageFormat;
+import arts.task.CompactTaskList;
 import arts.task.Task;
 
 /**
  * Represents the Storage class the handles the loading and saving of tasks to and from a file.
  * It manages the persistence of task data, allowing tasks to be stored and retrieved.
+ * In journaled mode, each mutation is appended to a journal instead of rewriting the whole file,
+ * and the journal is folded back into the task file by a background compaction.
+ * The task file is written in either the text or the binary format, and a file in either format can be loaded.
+ * A text task file can also be opened as a {@link PagedTaskFile}, in which case changes are written to it in place.
  */
 public class Storage {
     private static final String NO_TASK_FILE_MESSAGE = "No existing task file found. Starting fresh.";
+    private static final String CHECKPOINT_HEADER = "# checkpoint ";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int COMPACTION_THRESHOLD = 1000;
+    private static final String PAGED_REORDER_MESSAGE = "A paged task file cannot be reordered.";
 
     private final String filePath;
+    private final Journal journal;
+    private final SnapshotWriter snapshotWriter;
+    private final AtomicBoolean isCompacting = new AtomicBoolean(false);
+    private ExecutorService compactor;
+    private PersistenceWorker persistenceWorker;
+    private Lock readLock;
+    private PagedTaskFile pagedTasks;
+    private long lastSnapshotGeneration;
+    private int batchDepth;
 
     /**
      * Constructs a Storage object with the specified file path for storing tasks.
@@ -26,13 +48,52 @@ public class Storage {
      * @param filePath The path of the file where tasks are stored.
      */
     public Storage(String filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a Storage object with the specified file path, optionally recording
+     * mutations in a journal next to the task file.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     * @param isJournaled Whether mutations are appended to a journal instead of rewriting the file.
+     */
+    public Storage(String filePath, boolean isJournaled) {
+        this(filePath, isJournaled, StorageFormat.TEXT);
+    }
+
+    /**
+     * Constructs a Storage object with the specified file path and file format, optionally recording
+     * mutations in a journal next to the task file.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     * @param isJournaled Whether mutations are appended to a journal instead of rewriting the file.
+     * @param format The format in which the task file is written.
+     */
+    public Storage(String filePath, boolean isJournaled, StorageFormat format) {
         assert filePath != null && !filePath.trim().isEmpty() : "File path cannot be null or empty";
+        assert format != null : "Storage format cannot be null";
         this.filePath = filePath;
+        this.snapshotWriter = new SnapshotWriter(filePath, format);
+        this.journal = isJournaled ? new Journal(filePath + JOURNAL_SUFFIX) : null;
+    }
+
+    /**
+     * Returns whether this storage records mutations in a journal.
+     *
+     * @return true if the storage is journaled, otherwise false.
+     */
+    public boolean isJournaled() {
+        return journal != null;
     }
 
     /**
      * Loads tasks from the file specified by the filePath.
      * If the file does not exist, it initializes an empty task list.
+     * Large files are memory-mapped and parsed in parallel, keeping the tasks in file order.
+     * The format of the file is detected from its contents, so a text file can be loaded by a binary storage
+     * and is converted by the next save, and the other way round.
+     * In journaled mode, any journals newer than the snapshot are replayed on top of it.
      *
      * @return An ArrayList of tasks loaded from the file.
      * @throws ArtsException If there is an error reading the file or parsing tasks.
@@ -40,49 +101,452 @@ public class Storage {
     public ArrayList<Task> load() throws ArtsException {
         File file = new File(filePath);
         ArrayList<Task> tasks = new ArrayList<>();
+        long snapshotGeneration = 0;
 
         if (!file.exists()) {
             System.out.println(NO_TASK_FILE_MESSAGE);
             try {
                 // Create directories if they do not exist
-                file.getParentFile().mkdirs();
+                if (file.getParentFile() != null) {
+                    file.getParentFile().mkdirs();
+                }
                 // Create the file
                 file.createNewFile();
             } catch (IOException e) {
                 throw new ArtsException("Error creating task file: " + e.getMessage());
             }
-            return tasks;
+        } else {
+            String header;
+            if (isBinaryFile()) {
+                BinaryTaskFileLoader loader = new BinaryTaskFileLoader(filePath);
+                tasks = loader.load();
+                header = loader.getHeader();
+            } else {
+                TaskFileLoader loader = new TaskFileLoader(filePath);
+                tasks = loader.load();
+                header = loader.getHeader();
+            }
+            if (header != null && header.startsWith(CHECKPOINT_HEADER)) {
+                try {
+                    snapshotGeneration = Long.parseLong(header.substring(CHECKPOINT_HEADER.length()).trim());
+                } catch (NumberFormatException e) {
+                    throw new ArtsException("Error loading tasks: invalid checkpoint header '" + header + "'");
+                }
+                lastSnapshotGeneration = snapshotGeneration;
+            }
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                assert line != null : "Line read from file should not be null";
-                Task task = Task.fromFileFormat(line);
-                tasks.add(task);
-            }
-        } catch (IOException | ArtsException e) {
-            throw new ArtsException("Error loading tasks: " + e.getMessage());
+        if (journal != null) {
+            replayJournals(tasks, snapshotGeneration);
         }
         return tasks;
     }
 
+    private boolean isBinaryFile() throws ArtsException {
+        try {
+            return BinaryTaskFormat.isBinary(Path.of(filePath));
+        } catch (IOException e) {
+            throw new ArtsException("Error loading tasks: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads tasks as {@link #load()} does, then moves them into a compact list that stores them as rows
+     * instead of task objects. Each task is released as soon as it has been moved, so the decoded tasks
+     * can be reclaimed while the compact list is still being filled.
+     *
+     * @return The compact list of tasks.
+     * @throws ArtsException If there is an error reading the file or parsing tasks.
+     */
+    public CompactTaskList loadCompact() throws ArtsException {
+        ArrayList<Task> tasks = load();
+        CompactTaskList compact = new CompactTaskList();
+        for (int i = 0; i < tasks.size(); i++) {
+            compact.add(tasks.set(i, null));
+        }
+        return compact;
+    }
+
+    /**
+     * Opens the task file as a paged list that decodes tasks on demand, keeping at most the given number
+     * of pages of decoded tasks in memory. If the file does not exist, it is created empty.
+     * Later saves write each change to the file in place instead of rewriting it.
+     *
+     * @param cachedPages The number of pages of decoded tasks to keep in memory.
+     * @return The paged list of tasks.
+     * @throws ArtsException If the storage is journaled, the file is not a text task file, or it cannot be read.
+     */
+    public PagedTaskFile loadPaged(int cachedPages) throws ArtsException {
+        assert pagedTasks == null : "The task file has already been opened";
+        if (journal != null) {
+            throw new ArtsException("A journaled task file cannot be opened as a paged list.");
+        }
+        File file = new File(filePath);
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            if (file.createNewFile()) {
+                System.out.println(NO_TASK_FILE_MESSAGE);
+            }
+        } catch (IOException e) {
+            throw new ArtsException("Error creating task file: " + e.getMessage());
+        }
+        if (isBinaryFile()) {
+            throw new ArtsException("Only a text task file can be opened as a paged list.");
+        }
+        pagedTasks = new PagedTaskFile(filePath, cachedPages);
+        return pagedTasks;
+    }
+
+    /**
+     * Replays the rotated and active journals that are not yet covered by the snapshot,
+     * then opens the active journal for appending.
+     */
+    private void replayJournals(ArrayList<Task> tasks, long snapshotGeneration) throws ArtsException {
+        TreeMap<Long, File> journals = new TreeMap<>();
+        for (File candidate : listJournalFiles()) {
+            journals.put(Journal.readGeneration(candidate), candidate);
+        }
+
+        int replayed = 0;
+        boolean hasRotated = false;
+        for (var entry : journals.entrySet()) {
+            File journalFile = entry.getValue();
+            if (entry.getKey() < snapshotGeneration) {
+                // Already folded into the snapshot by a compaction that did not finish cleaning up
+                journalFile.delete();
+                continue;
+            }
+            replayed += Journal.replay(journalFile, tasks);
+            hasRotated |= !isActiveJournal(journalFile);
+        }
+
+        long nextGeneration = Math.max(snapshotGeneration, journals.isEmpty() ? 0 : journals.lastKey() + 1);
+        journal.open(nextGeneration);
+        journal.setRecordCount(replayed);
+
+        if (hasRotated) {
+            checkpoint(tasks);
+        }
+    }
+
+    private List<File> listJournalFiles() {
+        File file = new File(filePath).getAbsoluteFile();
+        String prefix = file.getName() + JOURNAL_SUFFIX;
+        File[] candidates = file.getParentFile().listFiles((dir, name) -> name.equals(prefix)
+                || name.startsWith(prefix + ".") && !name.endsWith(".tmp"));
+        return candidates == null ? List.of() : List.of(candidates);
+    }
+
+    private boolean isActiveJournal(File journalFile) {
+        return journalFile.getAbsoluteFile().equals(new File(filePath + JOURNAL_SUFFIX).getAbsoluteFile());
+    }
+
     /**
      * Saves the provided list of tasks to the file specified by the filePath.
+     * The file is replaced atomically, so a failed save leaves the previous contents intact.
+     * In journaled mode, this writes a new snapshot and starts a fresh journal.
      *
      * @param tasks The list of tasks to be saved to the file.
      * @throws ArtsException If there is an error writing to the file.
      */
-    public void save(ArrayList<Task> tasks) {
+    public void save(ArrayList<Task> tasks) throws ArtsException {
         assert tasks != null : "Tasks list cannot be null";
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            for (Task task : tasks) {
-                assert task != null : "Task to be saved should not be null";
-                writer.write(task.toFileFormat());
-                writer.newLine();
+        if (journal != null) {
+            checkpoint(tasks);
+            return;
+        }
+        // Written on this thread even when saving is asynchronous, since the caller may hold the list's
+        // write lock, which the background writer would wait for
+        snapshotWriter.write(tasks);
+    }
+
+    /**
+     * Moves saving off the calling thread. Afterwards, changes to the list are handed to a
+     * background writer that saves each burst of changes with one write, so commands return
+     * without waiting for the disk. A change only marks the list as changed; the writer reads
+     * the list while holding the given read lock, which must guard every change to it.
+     *
+     * @param flushIntervalMillis How long the writer gathers changes before saving them, in milliseconds.
+     * @param readLock The read lock of the list of tasks.
+     */
+    public void startAsync(long flushIntervalMillis, Lock readLock) {
+        assert persistenceWorker == null : "Asynchronous saving has already been started";
+        assert readLock != null : "Read lock cannot be null";
+        this.readLock = readLock;
+        persistenceWorker = new PersistenceWorker(snapshotWriter, readLock, flushIntervalMillis);
+        persistenceWorker.start();
+    }
+
+    /**
+     * Waits until every change handed to the background writer has been saved.
+     * Returns immediately if saving is not asynchronous.
+     *
+     * @throws ArtsException If the background writer failed to save the tasks.
+     */
+    public void awaitDurable() throws ArtsException {
+        if (persistenceWorker != null) {
+            persistenceWorker.awaitDurable();
+        }
+    }
+
+    /**
+     * Saves any pending changes and stops the background writer.
+     * Later changes are saved synchronously, except to a paged task file, which is closed and cannot be used again.
+     *
+     * @throws ArtsException If the pending changes could not be saved.
+     */
+    public void close() throws ArtsException {
+        if (pagedTasks != null) {
+            try {
+                pagedTasks.force();
+            } finally {
+                pagedTasks.close();
             }
-        } catch (IOException e) {
-            // Suppress the exception and do nothing
         }
+        if (persistenceWorker == null) {
+            return;
+        }
+        PersistenceWorker worker = persistenceWorker;
+        persistenceWorker = null;
+        try {
+            // Saved on this thread, which may hold the list's write lock that the background writer would wait for
+            snapshotWriter.flush(readLock);
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    /**
+     * Persists a task that was added to the end of the list.
+     *
+     * @param task The task that was added.
+     * @param tasks The full list of tasks, used when the storage is not journaled.
+     * @throws ArtsException If the mutation cannot be persisted.
+     */
+    public void saveAdd(Task task, List<Task> tasks) throws ArtsException {
+        if (pagedTasks != null) {
+            forceUnlessBatching();
+            return;
+        }
+        if (batchDepth > 0) {
+            return;
+        }
+        if (journal == null) {
+            persist(tasks);
+            return;
+        }
+        journal.appendAdd(task);
+        compactIfNeeded(tasks);
+    }
+
+    /**
+     * Persists a task that was marked as done.
+     *
+     * @param index The zero-based index of the task.
+     * @param tasks The full list of tasks, used when the storage is not journaled.
+     * @throws ArtsException If the mutation cannot be persisted.
+     */
+    public void saveMark(int index, List<Task> tasks) throws ArtsException {
+        if (pagedTasks != null) {
+            pagedTasks.writeDone(index);
+            forceUnlessBatching();
+            return;
+        }
+        if (batchDepth > 0) {
+            return;
+        }
+        if (journal == null) {
+            persist(tasks);
+            return;
+        }
+        journal.appendMark(index);
+        compactIfNeeded(tasks);
+    }
+
+    /**
+     * Persists a task that was marked as not done.
+     *
+     * @param index The zero-based index of the task.
+     * @param tasks The full list of tasks, used when the storage is not journaled.
+     * @throws ArtsException If the mutation cannot be persisted.
+     */
+    public void saveUnmark(int index, List<Task> tasks) throws ArtsException {
+        if (pagedTasks != null) {
+            pagedTasks.writeDone(index);
+            forceUnlessBatching();
+            return;
+        }
+        if (batchDepth > 0) {
+            return;
+        }
+        if (journal == null) {
+            persist(tasks);
+            return;
+        }
+        journal.appendUnmark(index);
+        compactIfNeeded(tasks);
+    }
+
+    /**
+     * Persists the deletion of a task.
+     *
+     * @param index The zero-based index the task had before it was removed.
+     * @param tasks The full list of tasks, used when the storage is not journaled.
+     * @throws ArtsException If the mutation cannot be persisted.
+     */
+    public void saveDelete(int index, List<Task> tasks) throws ArtsException {
+        if (pagedTasks != null) {
+            forceUnlessBatching();
+            return;
+        }
+        if (batchDepth > 0) {
+            return;
+        }
+        if (journal == null) {
+            persist(tasks);
+            return;
+        }
+        journal.appendDelete(index);
+        compactIfNeeded(tasks);
+    }
+
+    /**
+     * Persists a reordering of the list.
+     *
+     * @param order Either {@link Journal#REORDER_DEADLINES} or {@link Journal#REORDER_EVENTS}.
+     * @param tasks The full list of tasks, used when the storage is not journaled.
+     * @throws ArtsException If the mutation cannot be persisted.
+     */
+    public void saveReorder(String order, List<Task> tasks) throws ArtsException {
+        if (pagedTasks != null) {
+            throw new ArtsException(PAGED_REORDER_MESSAGE);
+        }
+        if (batchDepth > 0) {
+            return;
+        }
+        if (journal == null) {
+            persist(tasks);
+            return;
+        }
+        journal.appendReorder(order);
+        compactIfNeeded(tasks);
+    }
+
+    /**
+     * Starts a batch of changes that are saved together by {@link #endBatch(List)}.
+     * Until then, the save methods only keep a paged task file's in-place writes, without syncing them,
+     * and nothing is appended to the journal or written to the task file.
+     * Batches can be nested, such as an import run as part of a batch of commands; only the outermost
+     * batch saves the list when it ends.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch of changes, saving the list once with every change made during the batch.
+     * In journaled mode, the list is saved as a new snapshot, which covers every journal written before it.
+     * Ending a batch nested in another one saves nothing.
+     *
+     * @param tasks The full list of tasks.
+     * @throws ArtsException If the list cannot be saved.
+     */
+    public void endBatch(List<Task> tasks) throws ArtsException {
+        assert batchDepth > 0 : "No batch has been started";
+        batchDepth--;
+        if (batchDepth > 0) {
+            return;
+        }
+        if (pagedTasks != null) {
+            pagedTasks.force();
+            return;
+        }
+        save(tasks instanceof ArrayList ? (ArrayList<Task>) tasks : new ArrayList<>(tasks));
+    }
+
+    private void forceUnlessBatching() throws ArtsException {
+        if (batchDepth == 0) {
+            pagedTasks.force();
+        }
+    }
+
+    /**
+     * Hands the list to the background writer if saving is asynchronous, otherwise saves it directly.
+     */
+    private void persist(List<Task> tasks) throws ArtsException {
+        if (persistenceWorker != null) {
+            persistenceWorker.submit(tasks);
+        } else {
+            save(tasks instanceof ArrayList ? (ArrayList<Task>) tasks : new ArrayList<>(tasks));
+        }
+    }
+
+    /**
+     * Starts a background compaction once the active journal has grown past the threshold.
+     * The journal is rotated immediately so that new mutations go to a fresh journal, while
+     * the snapshot is written from a copy of the list on the compaction thread.
+     */
+    private void compactIfNeeded(List<Task> tasks) throws ArtsException {
+        if (journal.getRecordCount() < COMPACTION_THRESHOLD || !isCompacting.compareAndSet(false, true)) {
+            return;
+        }
+        File rotated;
+        try {
+            rotated = journal.rotate();
+        } catch (ArtsException e) {
+            isCompacting.set(false);
+            throw e;
+        }
+        ArrayList<Task> copy = new ArrayList<>(tasks);
+        long generation = journal.getGeneration();
+        getCompactor().execute(() -> {
+            try {
+                writeSnapshot(copy, generation);
+                rotated.delete();
+            } catch (ArtsException e) {
+                // Keep the rotated journal so it is replayed on the next load
+            } finally {
+                isCompacting.set(false);
+            }
+        });
+    }
+
+    /**
+     * Writes a snapshot of the tasks synchronously and discards every journal it covers.
+     */
+    private void checkpoint(ArrayList<Task> tasks) throws ArtsException {
+        journal.rotate();
+        writeSnapshot(tasks, journal.getGeneration());
+        for (File journalFile : listJournalFiles()) {
+            if (!isActiveJournal(journalFile) && Journal.readGeneration(journalFile) < journal.getGeneration()) {
+                journalFile.delete();
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot of the tasks, stamping it with the generation of the first journal that is
+     * not included in it. A snapshot older than the one already on disk is skipped, since the
+     * journals it would need have been discarded.
+     */
+    private synchronized void writeSnapshot(List<Task> tasks, long generation) throws ArtsException {
+        if (generation <= lastSnapshotGeneration) {
+            return;
+        }
+        snapshotWriter.write(tasks, CHECKPOINT_HEADER + generation);
+        lastSnapshotGeneration = generation;
+    }
+
+    private synchronized ExecutorService getCompactor() {
+        if (compactor == null) {
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "arts-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return compactor;
     }
 }
@@ -0,0 +1,78 @@
+package arts.util;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import arts.ArtsException;
+import arts.enums.StorageFormat;
+import arts.task.Task;
+
+/**
+ * Represents a converter between the text and binary task file formats.
+ * The format of the source file is detected from its contents, and its header, such as the
+ * checkpoint generation of a journaled storage, is carried over to the converted file.
+ */
+public class TaskFileConverter {
+    private static final String USAGE = "Usage: TaskFileConverter <source> <target> <text|binary>";
+
+    private TaskFileConverter() {
+    }
+
+    /**
+     * Converts a task file to the given format. The target is written durably and replaced atomically,
+     * so it may be the same file as the source.
+     *
+     * @param source The path of the task file to read, in either format.
+     * @param target The path of the task file to write.
+     * @param format The format of the target file.
+     * @return The number of tasks converted.
+     * @throws ArtsException If the source cannot be read or the target cannot be written.
+     */
+    public static int convert(String source, String target, StorageFormat format) throws ArtsException {
+        assert source != null && target != null : "Paths cannot be null";
+        assert format != null : "Storage format cannot be null";
+
+        ArrayList<Task> tasks;
+        String header;
+        boolean isBinary;
+        try {
+            isBinary = BinaryTaskFormat.isBinary(Path.of(source));
+        } catch (IOException e) {
+            throw new ArtsException("Error loading tasks: " + e.getMessage());
+        }
+        if (isBinary) {
+            BinaryTaskFileLoader loader = new BinaryTaskFileLoader(source);
+            tasks = loader.load();
+            header = loader.getHeader();
+        } else {
+            TaskFileLoader loader = new TaskFileLoader(source);
+            tasks = loader.load();
+            header = loader.getHeader();
+        }
+        new SnapshotWriter(target, format).write(tasks, header);
+        return tasks.size();
+    }
+
+    /**
+     * Converts a task file from the command line.
+     * Usage: {@code TaskFileConverter <source> <target> <text|binary>}.
+     *
+     * @param args The source path, the target path and the target format.
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println(USAGE);
+            return;
+        }
+        try {
+            StorageFormat format = StorageFormat.valueOf(args[2].toUpperCase());
+            int count = convert(args[0], args[1], format);
+            System.out.println("Converted " + count + " tasks to " + args[1] + ".");
+        } catch (IllegalArgumentException e) {
+            System.err.println(USAGE);
+        } catch (ArtsException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package arts.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import arts.ArtsException;
+import arts.task.Task;
+import arts.task.TaskRecordDecoder;
+
+/**
+ * Represents a loader that reads a task file by memory-mapping it and parsing it in parallel.
+ * The file is cut into chunks that start and end on line boundaries, each chunk is parsed on the
+ * fork/join pool, and the results are joined back together in file order.
+ */
+public class TaskFileLoader {
+    private static final int MIN_CHUNK_BYTES = 1 << 20;
+    private static final int MAX_CHUNK_BYTES = 64 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int SCAN_BUFFER_BYTES = 4096;
+    private static final char COMMENT = '#';
+
+    private final Path path;
+    private final ForkJoinPool pool;
+    private String header;
+
+    /**
+     * Constructs a TaskFileLoader for the task file at the specified path using the common pool.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     */
+    public TaskFileLoader(String filePath) {
+        this(filePath, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a TaskFileLoader for the task file at the specified path using the given pool.
+     *
+     * @param filePath The path of the file where tasks are stored.
+     * @param pool The pool on which chunks are parsed.
+     */
+    public TaskFileLoader(String filePath, ForkJoinPool pool) {
+        assert filePath != null && !filePath.trim().isEmpty() : "File path cannot be null or empty";
+        assert pool != null : "ForkJoinPool cannot be null";
+        this.path = Path.of(filePath);
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the comment line found at the top of the file by the last load, if any.
+     *
+     * @return The header line, or null if the file did not start with a comment.
+     */
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * Loads every task in the file, in file order. Blank lines and lines starting with '#' are skipped.
+     *
+     * @return An ArrayList of tasks loaded from the file.
+     * @throws ArtsException If the file cannot be read or a line cannot be parsed.
+     */
+    public ArrayList<Task> load() throws ArtsException {
+        header = null;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] bounds = findChunkBounds(channel);
+            int chunkCount = bounds.length - 1;
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            List<Task>[] results = new List[chunkCount];
+            ArtsException[] errors = new ArtsException[chunkCount];
+
+            if (chunkCount == 1) {
+                parseChunk(channel, bounds, 0, results, errors);
+            } else if (chunkCount > 1) {
+                pool.invoke(new ParseChunks(channel, bounds, 0, chunkCount, results, errors));
+            }
+
+            int total = 0;
+            for (int i = 0; i < chunkCount; i++) {
+                if (errors[i] != null) {
+                    throw errors[i];
+                }
+                total += results[i].size();
+            }
+            ArrayList<Task> tasks = new ArrayList<>(total);
+            for (List<Task> result : results) {
+                tasks.addAll(result);
+            }
+            return tasks;
+        } catch (IOException e) {
+            throw new ArtsException("Error loading tasks: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Splits the file into chunks of roughly equal size whose boundaries fall just after a newline.
+     */
+    private long[] findChunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return new long[] {0};
+        }
+        int threads = Math.max(1, pool.getParallelism());
+        long chunkBytes = Math.max(MIN_CHUNK_BYTES, size / ((long) threads * CHUNKS_PER_THREAD) + 1);
+        chunkBytes = Math.min(chunkBytes, MAX_CHUNK_BYTES);
+
+        ArrayList<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long position = chunkBytes;
+        while (position < size) {
+            long lineEnd = findNextLineStart(channel, position, size);
+            if (lineEnd >= size) {
+                break;
+            }
+            bounds.add(lineEnd);
+            position = lineEnd + chunkBytes;
+        }
+        bounds.add(size);
+
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    private long findNextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+        long offset = position;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    private void parseChunk(FileChannel channel, long[] bounds, int index, List<Task>[] results,
+                            ArtsException[] errors) {
+        try {
+            long start = bounds[index];
+            MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, bounds[index + 1] - start);
+            CharBuffer chars = StandardCharsets.UTF_8.newDecoder().decode(bytes);
+            results[index] = parseLines(chars, index == 0);
+        } catch (CharacterCodingException e) {
+            errors[index] = new ArtsException("Error loading tasks: the file is not valid UTF-8.");
+        } catch (IOException e) {
+            errors[index] = new ArtsException("Error loading tasks: " + e.getMessage());
+        } catch (ArtsException e) {
+            errors[index] = e;
+        }
+    }
+
+    private List<Task> parseLines(CharBuffer chars, boolean isFirstChunk) throws ArtsException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        int length = chars.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && chars.charAt(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && chars.charAt(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+
+            if (contentEnd > lineStart) {
+                if (chars.charAt(lineStart) == COMMENT) {
+                    if (isFirstChunk && lineStart == 0) {
+                        header = chars.subSequence(lineStart, contentEnd).toString();
+                    }
+                } else {
+                    tasks.add(TaskRecordDecoder.decode(chars, lineStart, contentEnd));
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return tasks;
+    }
+
+    /**
+     * Represents a fork/join action that parses a range of chunks, splitting the range in half
+     * until each action handles a single chunk.
+     */
+    private class ParseChunks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long[] bounds;
+        private final int from;
+        private final int to;
+        private final List<Task>[] results;
+        private final ArtsException[] errors;
+
+        ParseChunks(FileChannel channel, long[] bounds, int from, int to, List<Task>[] results,
+                    ArtsException[] errors) {
+            this.channel = channel;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+            this.errors = errors;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                parseChunk(channel, bounds, from, results, errors);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParseChunks(channel, bounds, from, middle, results, errors),
+                    new ParseChunks(channel, bounds, middle, to, results, errors));
+        }
+    }
+}
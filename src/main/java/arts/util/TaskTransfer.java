@@ -0,0 +1,455 @@
+package arts.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import arts.ArtsException;
+import arts.enums.TransferFormat;
+import arts.task.Deadline;
+import arts.task.Event;
+import arts.task.Task;
+
+/**
+ * Represents the reading and writing of tasks as CSV or JSON Lines records, for importing and exporting them.
+ * Every record has the fields {@code type}, {@code done}, {@code description}, {@code by}, {@code from} and
+ * {@code to}, where the type is {@code todo}, {@code deadline} or {@code event} and the dates only apply to
+ * the matching type. Records are read and written one at a time, so files of any size can be streamed.
+ */
+public class TaskTransfer {
+    /** The position of the type field in a record. */
+    public static final int TYPE = 0;
+    /** The position of the completion field in a record. */
+    public static final int DONE = 1;
+    /** The position of the description field in a record. */
+    public static final int DESCRIPTION = 2;
+    /** The position of the due date field in a record. */
+    public static final int BY = 3;
+    /** The position of the start date field in a record. */
+    public static final int FROM = 4;
+    /** The position of the end date field in a record. */
+    public static final int TO = 5;
+
+    private static final String[] FIELDS = {"type", "done", "description", "by", "from", "to"};
+    private static final int MAX_RECORD_CHARS = 1 << 16;
+    private static final String RECORD_TOO_LONG_MESSAGE = "The record is longer than " + MAX_RECORD_CHARS
+            + " characters. Is a quote not closed?";
+    private static final String FORMAT_ERROR_MESSAGE = "Please use a file ending in .csv or .jsonl.";
+    private static final String OUTSIDE_DIRECTORY_MESSAGE =
+            "Please name a file inside your own folder, such as backup.csv.";
+
+    /**
+     * Returns the format of a file from its extension.
+     *
+     * @param path The path of the file.
+     * @return The format of the file.
+     * @throws ArtsException If the extension is not one of a known format.
+     */
+    public static TransferFormat formatOf(String path) throws ArtsException {
+        String lowerCase = path.toLowerCase();
+        if (lowerCase.endsWith(".csv")) {
+            return TransferFormat.CSV;
+        } else if (lowerCase.endsWith(".jsonl") || lowerCase.endsWith(".ndjson")) {
+            return TransferFormat.JSONL;
+        }
+        throw new ArtsException(FORMAT_ERROR_MESSAGE);
+    }
+
+    /**
+     * Returns the file that a path given to import or export refers to. Without a directory, the path is used
+     * as it is given. With one, the path is resolved inside that directory and may not lead out of it, so that
+     * a user who is not trusted with the rest of the file system, such as a client of the server, cannot read
+     * or replace any other file.
+     *
+     * @param path The path given by the user.
+     * @param directory The directory the file must be in, or null to allow any file.
+     * @return The file to read or write.
+     * @throws ArtsException If the path leads out of the directory or is not a valid path.
+     */
+    public static Path resolve(String path, Path directory) throws ArtsException {
+        try {
+            if (directory == null) {
+                return Path.of(path);
+            }
+            Path base = directory.toAbsolutePath().normalize();
+            Path file = base.resolve(path).normalize();
+            if (!file.startsWith(base) || file.equals(base)) {
+                throw new ArtsException(OUTSIDE_DIRECTORY_MESSAGE);
+            }
+            return file;
+        } catch (InvalidPathException e) {
+            throw new ArtsException("Invalid file path: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes what comes before the first record, which is the header row for CSV and nothing for JSON Lines.
+     *
+     * @param out The writer to write to.
+     * @param format The format to write.
+     * @throws IOException If the header cannot be written.
+     */
+    public static void writeHeader(Writer out, TransferFormat format) throws IOException {
+        if (format == TransferFormat.CSV) {
+            out.write(String.join(",", FIELDS));
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Writes a task as a single record.
+     *
+     * @param task The task to write.
+     * @param out The writer to write to.
+     * @param format The format to write.
+     * @param dateFormatter The formatter for the task's dates.
+     * @throws IOException If the record cannot be written.
+     */
+    public static void write(Task task, Writer out, TransferFormat format, DateTimeFormatter dateFormatter)
+            throws IOException {
+        String[] record = new String[FIELDS.length];
+        record[DONE] = String.valueOf(task.isDone());
+        record[DESCRIPTION] = task.getDescription();
+        if (task instanceof Deadline) {
+            record[TYPE] = "deadline";
+            record[BY] = ((Deadline) task).getBy().format(dateFormatter);
+        } else if (task instanceof Event) {
+            record[TYPE] = "event";
+            record[FROM] = ((Event) task).getFrom().format(dateFormatter);
+            record[TO] = ((Event) task).getTo().format(dateFormatter);
+        } else {
+            record[TYPE] = "todo";
+        }
+
+        if (format == TransferFormat.CSV) {
+            writeCsv(record, out);
+        } else {
+            writeJson(record, out);
+        }
+        out.write('\n');
+    }
+
+    private static void writeCsv(String[] record, Writer out) throws IOException {
+        for (int i = 0; i < record.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            String value = record[i] == null ? "" : record[i];
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                out.write(value);
+            } else {
+                out.write('"');
+                out.write(value.replace("\"", "\"\""));
+                out.write('"');
+            }
+        }
+    }
+
+    private static void writeJson(String[] record, Writer out) throws IOException {
+        out.write('{');
+        boolean isFirst = true;
+        for (int i = 0; i < record.length; i++) {
+            if (record[i] == null) {
+                continue;
+            }
+            if (!isFirst) {
+                out.write(',');
+            }
+            isFirst = false;
+            writeJsonString(FIELDS[i], out);
+            out.write(':');
+            if (i == DONE) {
+                out.write(record[i]);
+            } else {
+                writeJsonString(record[i], out);
+            }
+        }
+        out.write('}');
+    }
+
+    private static void writeJsonString(String value, Writer out) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                out.write("\\\"");
+                break;
+            case '\\':
+                out.write("\\\\");
+                break;
+            case '\n':
+                out.write("\\n");
+                break;
+            case '\r':
+                out.write("\\r");
+                break;
+            case '\t':
+                out.write("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    out.write(String.format("\\u%04x", (int) c));
+                } else {
+                    out.write(c);
+                }
+            }
+        }
+        out.write('"');
+    }
+
+    /**
+     * Represents a reader of records from a CSV or JSON Lines file, one record at a time.
+     * A CSV file may start with a header row, which is skipped. A record longer than a fixed number of
+     * characters is reported as malformed, so a quote that is never closed cannot pull the rest of the file
+     * into memory; reading goes on with the line after the one where the limit was reached.
+     */
+    public static class RecordReader implements Closeable {
+        private final BufferedReader in;
+        private final TransferFormat format;
+        private int lineNumber;
+        private int recordLine;
+
+        /**
+         * Constructs a RecordReader over the given reader.
+         *
+         * @param in The reader to read records from.
+         * @param format The format of the records.
+         */
+        public RecordReader(BufferedReader in, TransferFormat format) {
+            assert in != null : "Reader cannot be null";
+            assert format != null : "Format cannot be null";
+            this.in = in;
+            this.format = format;
+        }
+
+        /**
+         * Returns the line on which the last record returned by {@link #next()} started.
+         *
+         * @return The line number, starting from 1.
+         */
+        public int getRecordLine() {
+            return recordLine;
+        }
+
+        /**
+         * Reads the next record, skipping blank lines.
+         *
+         * @return The fields of the record, with null for missing fields, or null at the end of the file.
+         * @throws IOException If the file cannot be read.
+         * @throws ArtsException If the record is malformed.
+         */
+        public String[] next() throws IOException, ArtsException {
+            while (true) {
+                String line = in.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+                recordLine = lineNumber;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (line.length() > MAX_RECORD_CHARS) {
+                    throw new ArtsException(RECORD_TOO_LONG_MESSAGE);
+                }
+                if (format == TransferFormat.JSONL) {
+                    return parseJson(line);
+                }
+                String[] record = parseCsv(line);
+                if (recordLine == 1 && FIELDS[TYPE].equalsIgnoreCase(record[TYPE])) {
+                    continue;
+                }
+                return record;
+            }
+        }
+
+        /**
+         * Parses a CSV record starting on the given line, reading more lines while a quoted field is open.
+         */
+        private String[] parseCsv(String firstLine) throws IOException, ArtsException {
+            List<String> values = new ArrayList<>(FIELDS.length);
+            StringBuilder value = new StringBuilder();
+            String line = firstLine;
+            int length = line.length();
+            boolean isQuoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!isQuoted) {
+                        break;
+                    }
+                    line = in.readLine();
+                    if (line == null) {
+                        throw new ArtsException("A quoted field is not closed.");
+                    }
+                    lineNumber++;
+                    length += line.length() + 1;
+                    if (length > MAX_RECORD_CHARS) {
+                        throw new ArtsException(RECORD_TOO_LONG_MESSAGE);
+                    }
+                    value.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = line.charAt(i++);
+                if (isQuoted) {
+                    if (c != '"') {
+                        value.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        isQuoted = false;
+                    }
+                } else if (c == '"') {
+                    isQuoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            values.add(value.toString());
+            return toRecord(values.toArray(new String[0]));
+        }
+
+        private static String[] toRecord(String[] values) {
+            String[] record = new String[FIELDS.length];
+            for (int i = 0; i < record.length && i < values.length; i++) {
+                record[i] = values[i].isEmpty() ? null : values[i];
+            }
+            return record;
+        }
+
+        /**
+         * Parses a JSON object whose values are strings, booleans or null into a record.
+         * Keys that are not record fields are ignored.
+         */
+        private String[] parseJson(String line) throws ArtsException {
+            String[] record = new String[FIELDS.length];
+            int[] position = {skipSpaces(line, 0)};
+            expect(line, position, '{');
+            if (peek(line, position) == '}') {
+                return record;
+            }
+            while (true) {
+                String key = parseJsonString(line, position);
+                expect(line, position, ':');
+                String value = parseJsonValue(line, position);
+                for (int i = 0; i < FIELDS.length; i++) {
+                    if (FIELDS[i].equals(key)) {
+                        record[i] = value;
+                    }
+                }
+                char c = peek(line, position);
+                position[0]++;
+                if (c == '}') {
+                    return record;
+                } else if (c != ',') {
+                    throw new ArtsException("Expected ',' or '}' in the JSON object.");
+                }
+            }
+        }
+
+        private static String parseJsonValue(String line, int[] position) throws ArtsException {
+            char c = peek(line, position);
+            if (c == '"') {
+                return parseJsonString(line, position);
+            }
+            for (String literal : new String[] {"true", "false", "null"}) {
+                if (line.startsWith(literal, position[0])) {
+                    position[0] = skipSpaces(line, position[0] + literal.length());
+                    return literal.equals("null") ? null : literal;
+                }
+            }
+            throw new ArtsException("Only strings, true, false and null are allowed as JSON values.");
+        }
+
+        private static String parseJsonString(String line, int[] position) throws ArtsException {
+            expect(line, position, '"');
+            StringBuilder sb = new StringBuilder();
+            int i = position[0];
+            while (i < line.length() && line.charAt(i) != '"') {
+                char c = line.charAt(i++);
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (i >= line.length()) {
+                    break;
+                }
+                char escaped = line.charAt(i++);
+                switch (escaped) {
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'u':
+                    if (i + 4 > line.length()) {
+                        throw new ArtsException("Incomplete \\u escape in a JSON string.");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(line.substring(i, i + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new ArtsException("Invalid \\u escape in a JSON string.");
+                    }
+                    i += 4;
+                    break;
+                default:
+                    sb.append(escaped);
+                }
+            }
+            if (i >= line.length()) {
+                throw new ArtsException("A JSON string is not closed.");
+            }
+            position[0] = skipSpaces(line, i + 1);
+            return sb.toString();
+        }
+
+        private static void expect(String line, int[] position, char expected) throws ArtsException {
+            if (peek(line, position) != expected) {
+                throw new ArtsException("Expected '" + expected + "' in the JSON object.");
+            }
+            position[0] = skipSpaces(line, position[0] + 1);
+        }
+
+        private static char peek(String line, int[] position) throws ArtsException {
+            if (position[0] >= line.length()) {
+                throw new ArtsException("The JSON object ends too early.");
+            }
+            return line.charAt(position[0]);
+        }
+
+        private static int skipSpaces(String line, int position) {
+            while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+            return position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
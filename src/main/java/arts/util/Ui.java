@@ -1,5 +1,6 @@
 package arts.util;
 
+import java.util.Iterator;
 import java.util.Scanner;
 
 /**
@@ -79,4 +80,19 @@ public class Ui {
         System.out.println(message);
         showLine();
     }
+
+    /**
+     * Displays a message made of several chunks, enclosed by line separators.
+     * Each chunk is printed as soon as it is produced.
+     *
+     * @param chunks The chunks of the message to be displayed.
+     */
+    public void showMessage(Iterator<String> chunks) {
+        showLine();
+        while (chunks.hasNext()) {
+            System.out.print(chunks.next());
+        }
+        System.out.println();
+        showLine();
+    }
 }
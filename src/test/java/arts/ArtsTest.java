@@ -0,0 +1,71 @@
+package arts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import arts.task.Task;
+import arts.util.Storage;
+
+/**
+ * Represents the test class for the Arts class.
+ * This class verifies the results written by a batch of commands and that the batch saves the list once.
+ */
+public class ArtsTest {
+
+    /**
+     * Represents a storage that counts how often the whole list is saved.
+     */
+    private static class CountingStorage extends Storage {
+        private int saves;
+
+        CountingStorage(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void save(ArrayList<Task> tasks) throws ArtsException {
+            saves++;
+            super.save(tasks);
+        }
+    }
+
+    /**
+     * Tests that a batch writes one result per command and a summary, stops at bye, keeps the changes of the
+     * commands around a failed one, and saves the list once.
+     */
+    @Test
+    public void testRunBatch() throws IOException, ArtsException {
+        Path file = Files.createTempDirectory("arts").resolve("tasks.txt");
+        CountingStorage storage = new CountingStorage(file.toString());
+        Arts arts = new Arts(storage);
+        String commands = "todo read book\n\nmark 5\nfly away\ntodo write\treport\nbye\ntodo never run\n";
+        StringWriter results = new StringWriter();
+
+        int failures = arts.runBatch(new BufferedReader(new StringReader(commands)), new PrintWriter(results));
+
+        String[] lines = results.toString().split("\n");
+        assertEquals(5, lines.length, "Each command before bye should have one line, followed by a summary.");
+        assertEquals(List.of("1", "OK", "TODO"), List.of(lines[0].split("\t")).subList(0, 3));
+        assertEquals(List.of("3", "ERROR", "MARK"), List.of(lines[1].split("\t")).subList(0, 3));
+        assertEquals(List.of("4", "ERROR", "UNKNOWN"), List.of(lines[2].split("\t")).subList(0, 3));
+        assertEquals(List.of("5", "OK", "TODO"), List.of(lines[3].split("\t")).subList(0, 3));
+        assertEquals(4, lines[3].split("\t").length, "Tabs in a response should be escaped.");
+        assertEquals("DONE\t2\t2", lines[4]);
+        assertEquals(2, failures);
+
+        assertEquals(1, storage.saves, "The batch should save the list once.");
+        assertEquals(2, new Storage(file.toString()).load().size(),
+                "The commands that succeeded should be saved, and none after bye should run.");
+    }
+}
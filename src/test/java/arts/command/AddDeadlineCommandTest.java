@@ -3,15 +3,17 @@ package arts.command;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import arts.ArtsException;
+import arts.enums.CommandType;
 import arts.task.Task;
 import arts.task.TaskList;
+import arts.util.DateParser;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -25,21 +27,18 @@ public class AddDeadlineCommandTest {
     private TaskList tasks;
     private StubStorage storage;
     private StubUi ui;
-    private DateTimeFormatter[] formatters;
+    private DateParser dateParser;
 
     /**
      * Sets up the test environment before each test method is executed.
-     * Initializes the task list, storage, UI stubs, and date formatters.
+     * Initializes the task list, storage, UI stubs, and date parser.
      */
     @BeforeEach
     public void setUp() {
         tasks = new TaskList();
         storage = new StubStorage("dummy/path/to/storage.txt");
         ui = new StubUi();
-        formatters = new DateTimeFormatter[]{
-                DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"),
-                DateTimeFormatter.ofPattern("d/M/yyyy HHmm")
-        };
+        dateParser = new DateParser();
     }
 
     /**
@@ -51,9 +50,9 @@ public class AddDeadlineCommandTest {
     @Test
     public void testAddDeadlineSuccessfully() throws ArtsException {
         String details = "Finish report /by 2024-08-29 1800";
-        AddDeadlineCommand command = new AddDeadlineCommand(tasks, storage, ui, details, formatters);
+        AddDeadlineCommand command = new AddDeadlineCommand(tasks, storage, ui, dateParser);
 
-        String result = command.execute();
+        String result = command.execute(new ParsedCommand(CommandType.DEADLINE, details));
 
         assertEquals(1, tasks.size(), "Task list should have one task.");
         assertEquals("Yatta! 🎉 I've successfully added this task to your list:\n✨ " + tasks.getTask(0)
@@ -67,9 +66,10 @@ public class AddDeadlineCommandTest {
     @Test
     public void testMissingByDateThrowsException() {
         String details = "Finish report";
-        AddDeadlineCommand command = new AddDeadlineCommand(tasks, storage, ui, details, formatters);
+        AddDeadlineCommand command = new AddDeadlineCommand(tasks, storage, ui, dateParser);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.DEADLINE, details)));
         assertEquals("Details must contain a '/by' to separate task description and deadline",
                 exception.getMessage(),
                 "Exception message should indicate missing /by date.");
@@ -82,10 +82,11 @@ public class AddDeadlineCommandTest {
     @Test
     public void testInvalidDateFormatThrowsException() {
         String details = "Finish report /by 29-08-2024 1800";
-        AddDeadlineCommand command = new AddDeadlineCommand(tasks, storage, ui, details, formatters);
+        AddDeadlineCommand command = new AddDeadlineCommand(tasks, storage, ui, dateParser);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
-        assertEquals("Invalid date format. Please use yyyy-MM-dd HHmm or d/M/yyyy HHmm.",
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.DEADLINE, details)));
+        assertEquals(DateParser.FORMAT_ERROR_MESSAGE,
                 exception.getMessage(), "Exception message should indicate invalid date format.");
     }
 
@@ -3,15 +3,17 @@ package arts.command;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import arts.ArtsException;
+import arts.enums.CommandType;
 import arts.task.Task;
 import arts.task.TaskList;
+import arts.util.DateParser;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -25,21 +27,18 @@ public class AddEventCommandTest {
     private TaskList tasks;
     private StubStorage storage;
     private StubUi ui;
-    private DateTimeFormatter[] formatters;
+    private DateParser dateParser;
 
     /**
      * Sets up the test environment before each test method is executed.
-     * Initializes the task list, storage, UI stubs, and date formatters.
+     * Initializes the task list, storage, UI stubs, and date parser.
      */
     @BeforeEach
     public void setUp() {
         tasks = new TaskList();
         storage = new StubStorage("dummy/path/to/storage.txt");
         ui = new StubUi();
-        formatters = new DateTimeFormatter[]{
-                DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"),
-                DateTimeFormatter.ofPattern("d/M/yyyy HHmm")
-        };
+        dateParser = new DateParser();
     }
 
     /**
@@ -51,9 +50,9 @@ public class AddEventCommandTest {
     @Test
     public void testAddEventSuccessfully() throws ArtsException {
         String details = "Conference /from 2024-08-29 0900 /to 2024-08-29 1700";
-        AddEventCommand command = new AddEventCommand(tasks, storage, ui, details, formatters);
+        AddEventCommand command = new AddEventCommand(tasks, storage, ui, dateParser);
 
-        String result = command.execute();
+        String result = command.execute(new ParsedCommand(CommandType.EVENT, details));
 
         assertEquals(1, tasks.size(), "Task list should have one task.");
         assertEquals("Sugoi! 🌟 I've added this epic event to your adventure:"
@@ -69,9 +68,10 @@ public class AddEventCommandTest {
     @Test
     public void testMissingFromOrToThrowsException() {
         String details = "Conference /from 2024-08-29 0900";
-        AddEventCommand command = new AddEventCommand(tasks, storage, ui, details, formatters);
+        AddEventCommand command = new AddEventCommand(tasks, storage, ui, dateParser);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.EVENT, details)));
         assertEquals("The event must have /from and /to times.", exception.getMessage(),
                 "Exception message should indicate missing /from or /to times.");
     }
@@ -83,10 +83,11 @@ public class AddEventCommandTest {
     @Test
     public void testInvalidDateFormatThrowsException() {
         String details = "Conference /from 29-08-2024 0900 /to 29-08-2024 1700";
-        AddEventCommand command = new AddEventCommand(tasks, storage, ui, details, formatters);
+        AddEventCommand command = new AddEventCommand(tasks, storage, ui, dateParser);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
-        assertEquals("Invalid date format. Please use yyyy-MM-dd HHmm or d/M/yyyy HHmm.",
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.EVENT, details)));
+        assertEquals(DateParser.FORMAT_ERROR_MESSAGE,
                 exception.getMessage(), "Exception message should indicate invalid date format.");
     }
 
@@ -97,9 +98,10 @@ public class AddEventCommandTest {
     @Test
     public void testInvalidEventTimesThrowsException() {
         String details = "Conference /from 2024-08-29 1700 /to 2024-08-29 0900";
-        AddEventCommand command = new AddEventCommand(tasks, storage, ui, details, formatters);
+        AddEventCommand command = new AddEventCommand(tasks, storage, ui, dateParser);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.EVENT, details)));
         assertEquals("Event start date must be before end date.", exception.getMessage(),
                 "Exception message should indicate invalid event times.");
     }
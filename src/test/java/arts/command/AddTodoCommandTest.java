@@ -8,8 +8,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import arts.ArtsException;
+import arts.enums.CommandType;
 import arts.task.Task;
 import arts.task.TaskList;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -44,9 +46,9 @@ public class AddTodoCommandTest {
     @Test
     public void execute_addValidTodo_success() throws ArtsException {
         String description = "Read a book";
-        AddTodoCommand command = new AddTodoCommand(tasks, storage, ui, description);
+        AddTodoCommand command = new AddTodoCommand(tasks, storage, ui);
 
-        String result = command.execute();
+        String result = command.execute(new ParsedCommand(CommandType.TODO, description));
 
         assertEquals(1, tasks.size(), "Task list should have one task after addition.");
         assertEquals("Hooray! 🎊 A new adventure awaits with this task:\n✨ [T][ ] Read a book ✨\n"
@@ -63,8 +65,8 @@ public class AddTodoCommandTest {
     @Test
     public void execute_normalizeSpacesInDescription() throws ArtsException {
         String description = "   Read   a   book   ";
-        AddTodoCommand command = new AddTodoCommand(tasks, storage, ui, description);
-        command.execute();
+        AddTodoCommand command = new AddTodoCommand(tasks, storage, ui);
+        command.execute(new ParsedCommand(CommandType.TODO, description));
 
         assertEquals("Read a book", tasks.getTask(0).getDescription(),
                 "Task description should be normalized.");
@@ -0,0 +1,59 @@
+package arts.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import arts.ArtsException;
+import arts.enums.CommandType;
+import arts.util.ParsedCommand;
+
+/**
+ * Represents the unit tests for the CommandRegistry class, covering how commands registered by name
+ * are parsed and looked up.
+ */
+public class CommandRegistryTest {
+
+    private CommandRegistry registry;
+
+    /**
+     * Sets up a registry holding one built-in command before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry();
+        registry.register(CommandType.BYE, command -> "bye");
+    }
+
+    @Test
+    public void testRegister_pluginCommand_parsedAndExecuted() throws ArtsException {
+        registry.register("ECHO", command -> command.getArguments(), "echo", "say");
+
+        ParsedCommand parsed = registry.getParser().parse("say hello there");
+
+        assertEquals("ECHO", parsed.getName());
+        assertNull(parsed.getType());
+        assertEquals("hello there", registry.get(parsed.getName()).execute(parsed));
+        assertEquals(CommandType.BYE, registry.getParser().parse("exit").getType());
+    }
+
+    @Test
+    public void testRegister_sameName_replacesCommand() throws ArtsException {
+        registry.register(CommandType.BYE.name(), command -> "see you", "bye");
+
+        ParsedCommand parsed = registry.getParser().parse("bye");
+
+        assertEquals("see you", registry.get(parsed.getName()).execute(parsed));
+        assertThrows(ArtsException.class, () -> registry.getParser().parse("quit"));
+    }
+
+    @Test
+    public void testRegister_keywordOfAnotherCommand_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register("LEAVE", command -> "", "exit"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("NOTHING", command -> ""));
+        assertNull(registry.get("LEAVE"));
+    }
+}
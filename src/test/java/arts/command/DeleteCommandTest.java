@@ -9,9 +9,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import arts.ArtsException;
+import arts.enums.CommandType;
 import arts.task.Task;
 import arts.task.TaskList;
 import arts.task.Todo;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -48,9 +50,9 @@ public class DeleteCommandTest {
     @Test
     public void testDeleteTaskSuccessfully() throws ArtsException {
         String taskIndex = "1";
-        DeleteCommand command = new DeleteCommand(tasks, storage, ui, taskIndex);
+        DeleteCommand command = new DeleteCommand(tasks, storage, ui);
 
-        String result = command.execute();
+        String result = command.execute(new ParsedCommand(CommandType.DELETE, taskIndex));
 
         assertEquals(1, tasks.size(), "Task list should have one task after deletion.");
         assertEquals("Farewell, brave task! 🌸 You've been removed from the quest:\n💔 [T][ ] Read a book 💔\n"
@@ -64,9 +66,10 @@ public class DeleteCommandTest {
     @Test
     public void testInvalidTaskIndexThrowsException() {
         String taskIndex = "3"; // Out of bounds
-        DeleteCommand command = new DeleteCommand(tasks, storage, ui, taskIndex);
+        DeleteCommand command = new DeleteCommand(tasks, storage, ui);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.DELETE, taskIndex)));
         assertEquals("Task index is out of bounds.", exception.getMessage(),
                 "Exception message should indicate task index is out of bounds.");
     }
@@ -78,9 +81,10 @@ public class DeleteCommandTest {
     @Test
     public void testNonNumericTaskIndexThrowsException() {
         String taskIndex = "a"; // Non-numeric
-        DeleteCommand command = new DeleteCommand(tasks, storage, ui, taskIndex);
+        DeleteCommand command = new DeleteCommand(tasks, storage, ui);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.DELETE, taskIndex)));
         assertEquals("Task index must be a number.", exception.getMessage(),
                 "Exception message should indicate task index is not a number.");
     }
@@ -0,0 +1,305 @@
+package arts.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import arts.ArtsException;
+import arts.Cancellation;
+import arts.enums.CommandType;
+import arts.task.Deadline;
+import arts.task.Event;
+import arts.task.Task;
+import arts.task.TaskList;
+import arts.task.Todo;
+import arts.util.DateParser;
+import arts.util.ParsedCommand;
+import arts.util.Storage;
+
+/**
+ * Represents a class that contains unit tests for the ImportCommand and ExportCommand classes.
+ * It tests that exported tasks can be imported again, that duplicates are skipped, that
+ * invalid records are reported without stopping the import, that cancelling either command leaves no partial
+ * result, and that paths are kept inside a transfer directory when one is given.
+ */
+public class ImportCommandTest {
+    private static final DateTimeFormatter FILE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    private TaskList tasks;
+    private CountingStorage storage;
+    private DateParser dateParser;
+
+    /**
+     * Sets up the test environment before each test method is executed.
+     */
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+        storage = new CountingStorage("dummy/path/to/storage.txt");
+        dateParser = new DateParser();
+    }
+
+    /**
+     * Tests that tasks exported as CSV and as JSON Lines, including descriptions with quotes and commas,
+     * are imported again unchanged, with the list saved once per import.
+     *
+     * @throws Exception if the files cannot be written or read.
+     */
+    @Test
+    public void testExportThenImportRoundTrip() throws Exception {
+        Task todo = new Todo("Buy \"fresh\" milk, eggs");
+        todo.markAsDone();
+        tasks.addTask(todo);
+        tasks.addTask(new Deadline("Submit report | final", LocalDateTime.of(2024, 8, 29, 18, 0)));
+        tasks.addTask(new Event("Team \\ retreat", LocalDateTime.of(2024, 9, 1, 9, 0),
+                LocalDateTime.of(2024, 9, 2, 17, 30)));
+
+        for (String suffix : new String[] {".csv", ".jsonl"}) {
+            Path file = Files.createTempFile("arts-transfer", suffix);
+            new ExportCommand(tasks, FILE_FORMATTER).execute(new ParsedCommand(CommandType.EXPORT, file.toString()));
+
+            TaskList imported = new TaskList();
+            CountingStorage importStorage = new CountingStorage("dummy/path/to/storage.txt");
+            String result = new ImportCommand(imported, importStorage, dateParser).execute(importing(file.toString()));
+
+            assertTrue(result.contains("added 3 tasks"), result);
+            assertEquals(1, importStorage.saves, "The list should be saved once");
+            assertEquals(tasks.size(), imported.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                assertEquals(tasks.getTask(i).toFileFormat(), imported.getTask(i).toFileFormat());
+            }
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests that tasks already in the list, and tasks repeated in the file, are skipped.
+     *
+     * @throws Exception if the file cannot be written or read.
+     */
+    @Test
+    public void testImportSkipsDuplicates() throws Exception {
+        tasks.addTask(new Todo("Read book"));
+        Path file = write(".csv", "type,done,description,by,from,to\n"
+                + "todo,false,Read book,,,\n"
+                + "todo,true,Write essay,,,\n"
+                + "todo,false,Write essay,,,\n");
+
+        String result = new ImportCommand(tasks, storage, dateParser).execute(importing(file.toString()));
+
+        assertEquals(2, tasks.size());
+        assertTrue(tasks.getTask(1).isDone(), "The first copy in the file should be kept");
+        assertTrue(result.contains("2 tasks were already in your list"), result);
+        Files.delete(file);
+    }
+
+    /**
+     * Tests that invalid records are counted and reported with their line numbers, while valid ones are added.
+     *
+     * @throws Exception if the file cannot be written or read.
+     */
+    @Test
+    public void testImportReportsInvalidRecords() throws Exception {
+        Path file = write(".jsonl", "{\"type\":\"deadline\",\"description\":\"Pay rent\",\"by\":\"1/9/2024 0900\"}\n"
+                + "{\"type\":\"deadline\",\"description\":\"Pay bills\",\"by\":\"tomorrow\"}\n"
+                + "\n"
+                + "{\"type\":\"event\",\"description\":\"Trip\","
+                + "\"from\":\"2024-09-02 0900\",\"to\":\"2024-09-01 0900\"}\n"
+                + "not json\n");
+
+        String result = new ImportCommand(tasks, storage, dateParser).execute(importing(file.toString()));
+
+        assertEquals(1, tasks.size());
+        assertEquals(LocalDateTime.of(2024, 9, 1, 9, 0), ((Deadline) tasks.getTask(0)).getBy());
+        assertTrue(result.contains("3 records were not valid tasks"), result);
+        assertTrue(result.contains("Line 2: Invalid date format"), result);
+        assertTrue(result.contains("Line 4: The event starts after it ends."), result);
+        Files.delete(file);
+    }
+
+    /**
+     * Tests that a quote that is never closed is reported as an invalid record once the record grows too long,
+     * and that the records after it are still read.
+     *
+     * @throws Exception if the file cannot be written or read.
+     */
+    @Test
+    public void testImportReportsUnclosedQuote() throws Exception {
+        StringBuilder records = new StringBuilder("type,done,description,by,from,to\n"
+                + "todo,false,\"Never closed,,,\n");
+        for (int i = 0; i < 2_000; i++) {
+            records.append("x".repeat(99)).append('\n');
+        }
+        records.append("todo,false,Read book,,,\n");
+        Path file = write(".csv", records.toString());
+
+        String result = new ImportCommand(tasks, storage, dateParser).execute(importing(file.toString()));
+
+        assertTrue(result.contains("Line 2: The record is longer than"), result);
+        assertEquals(1, tasks.size());
+        assertEquals("Read book", tasks.getTask(0).getDescription());
+        Files.delete(file);
+    }
+
+    /**
+     * Tests that files with an unknown extension, or that do not exist, are rejected without saving the list,
+     * and that an import that adds nothing does not save it either.
+     *
+     * @throws Exception if the file cannot be written or read.
+     */
+    @Test
+    public void testImportRejectsUnknownOrMissingFile() throws Exception {
+        ImportCommand command = new ImportCommand(tasks, storage, dateParser);
+        assertThrows(ArtsException.class, () -> command.execute(importing("tasks.txt")));
+        assertThrows(ArtsException.class, () -> command.execute(importing("no/such/file.csv")));
+        assertEquals(0, tasks.size());
+        assertEquals(0, storage.saves, "A rejected import should not save the list");
+
+        Path file = write(".csv", "type,done,description,by,from,to\n");
+        command.execute(importing(file.toString()));
+        assertEquals(0, storage.saves, "An import that adds nothing should not save the list");
+        Files.delete(file);
+    }
+
+    /**
+     * Tests that a cancelled export leaves the file it would have replaced untouched.
+     *
+     * @throws Exception if the file cannot be written or read.
+     */
+    @Test
+    public void testCancelledExportKeepsOldFile() throws Exception {
+        tasks.addTask(new Todo("Read book"));
+        Path file = write(".csv", "old contents\n");
+        Cancellation cancellation = new Cancellation();
+        cancellation.cancel();
+
+        assertThrows(CancellationException.class, () -> cancellation.run(() -> {
+            try {
+                return new ExportCommand(tasks, FILE_FORMATTER).execute(exporting(file.toString()));
+            } catch (ArtsException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+
+        assertEquals("old contents\n", Files.readString(file, StandardCharsets.UTF_8));
+        try (Stream<Path> siblings = Files.list(file.getParent())) {
+            assertFalse(siblings.anyMatch(sibling -> sibling.getFileName().toString()
+                    .startsWith(file.getFileName().toString())
+                    && sibling.getFileName().toString().endsWith(".tmp")), "No temporary file should be left");
+        }
+        Files.delete(file);
+    }
+
+    /**
+     * Tests that an import cancelled before it adds any task changes nothing, and that once it has added
+     * tasks it runs to the end rather than keeping only part of the file.
+     *
+     * @throws Exception if the file cannot be written or read.
+     */
+    @Test
+    public void testCancelledImportIsAllOrNothing() throws Exception {
+        StringBuilder records = new StringBuilder("type,done,description,by,from,to\n");
+        for (int i = 0; i <= 10_000; i++) {
+            records.append("todo,false,Task ").append(i).append(",,,\n");
+        }
+        Path file = write(".csv", records.toString());
+        Cancellation early = new Cancellation();
+        early.cancel();
+
+        assertThrows(CancellationException.class, () -> early.run(() -> importQuietly(tasks, file)));
+        assertEquals(0, tasks.size(), "An import cancelled before adding tasks should change nothing");
+
+        Cancellation late = new Cancellation();
+        TaskList cancelling = new TaskList(new ArrayList<>(), false) {
+            @Override
+            public List<Task> addAllAbsent(List<Task> newTasks) {
+                List<Task> added = super.addAllAbsent(newTasks);
+                late.cancel();
+                return added;
+            }
+        };
+        late.run(() -> importQuietly(cancelling, file));
+        assertEquals(10_001, cancelling.size(), "An import that has added tasks should finish");
+        Files.delete(file);
+    }
+
+    /**
+     * Tests that with a directory given, files are only exported to and imported from inside it.
+     *
+     * @throws Exception if the files cannot be written or read.
+     */
+    @Test
+    public void testTransferDirectoryConfinesPaths() throws Exception {
+        Path directory = Files.createTempDirectory("arts-transfer").resolve("hero");
+        tasks.addTask(new Todo("Read book"));
+        ExportCommand export = new ExportCommand(tasks, FILE_FORMATTER, directory);
+        TaskList imported = new TaskList();
+        ImportCommand command = new ImportCommand(imported, storage, dateParser, directory);
+
+        export.execute(exporting("backup.csv"));
+        command.execute(importing("./backup.csv"));
+
+        assertEquals(1, imported.size());
+        assertTrue(Files.exists(directory.resolve("backup.csv")), "The file should be written in the directory");
+        assertThrows(ArtsException.class, () -> export.execute(exporting("../backup.csv")));
+        assertThrows(ArtsException.class, () -> command.execute(importing("sub/../../backup.csv")));
+        assertThrows(ArtsException.class, () -> command.execute(importing(
+                directory.getParent().resolve("other.csv").toAbsolutePath().toString())));
+        Files.delete(directory.resolve("backup.csv"));
+        Files.delete(directory);
+        Files.delete(directory.getParent());
+    }
+
+    private String importQuietly(TaskList target, Path file) {
+        try {
+            return new ImportCommand(target, storage, dateParser).execute(importing(file.toString()));
+        } catch (ArtsException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ParsedCommand exporting(String path) {
+        return new ParsedCommand(CommandType.EXPORT, path);
+    }
+
+    private static ParsedCommand importing(String path) {
+        return new ParsedCommand(CommandType.IMPORT, path);
+    }
+
+    private static Path write(String suffix, String content) throws IOException {
+        Path file = Files.createTempFile("arts-transfer", suffix);
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * Represents a stub Storage that counts how many times the whole list is saved.
+     */
+    private static class CountingStorage extends Storage {
+        private int saves;
+
+        public CountingStorage(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void save(ArrayList<Task> tasks) {
+            saves++;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package arts.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import arts.ArtsException;
+import arts.enums.CommandType;
+import arts.task.TaskList;
+import arts.task.Todo;
+import arts.util.ParsedCommand;
+
+/**
+ * Represents the ListCommandTest class contains unit tests for the ListCommand class.
+ * It tests that tasks are listed in full or page by page and that the streamed listing matches the full one.
+ */
+public class ListCommandTest {
+
+    private TaskList tasks;
+
+    /**
+     * Sets up the test environment before each test method is executed.
+     * Initializes the task list with five sample tasks.
+     */
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+        for (int i = 1; i <= 5; i++) {
+            tasks.addTask(new Todo("Task " + i));
+        }
+    }
+
+    /**
+     * Tests that a page shows its tasks with their overall numbers and a hint for the next page.
+     *
+     * @throws ArtsException if an error occurs during command execution.
+     */
+    @Test
+    public void testListPage() throws ArtsException {
+        String result = new ListCommand(tasks).execute(list("2 --page-size 2"));
+
+        assertEquals("Here are the tasks in your list:\n3. [T][ ] Task 3\n4. [T][ ] Task 4\n"
+                + "📖 Page 2 of 3. Type 'list 3 --page-size 2' to turn the page, hero!", result);
+    }
+
+    /**
+     * Tests that a list that fits on one page is shown without a page line.
+     *
+     * @throws ArtsException if an error occurs during command execution.
+     */
+    @Test
+    public void testListSinglePage() throws ArtsException {
+        String result = new ListCommand(tasks).execute(list(""));
+
+        assertEquals("Here are the tasks in your list:\n1. [T][ ] Task 1\n2. [T][ ] Task 2\n"
+                + "3. [T][ ] Task 3\n4. [T][ ] Task 4\n5. [T][ ] Task 5\n", result);
+    }
+
+    /**
+     * Tests that a bare list shows every task, however many there are, streamed a page at a time,
+     * and that a page size on its own shows the first page only.
+     *
+     * @throws ArtsException if an error occurs during command execution.
+     */
+    @Test
+    public void testBareListShowsEveryTask() throws ArtsException {
+        for (int i = 6; i <= 2 * ListCommand.DEFAULT_PAGE_SIZE + 20; i++) {
+            tasks.addTask(new Todo("Task " + i));
+        }
+        ListCommand command = new ListCommand(tasks);
+
+        String result = command.execute(list(""));
+        assertEquals(command.execute(list("--all")), result);
+        assertEquals(2 * ListCommand.DEFAULT_PAGE_SIZE + 20, result.split("\n").length - 1);
+        assertTrue(result.endsWith("120. [T][ ] Task 120\n"), "The last task should be listed.");
+        assertTrue(command.isAll(list("")));
+
+        int count = 0;
+        for (Iterator<String> chunks = command.stream(list("")); chunks.hasNext(); chunks.next()) {
+            count++;
+        }
+        assertEquals(3, count, "120 tasks should be streamed in three chunks of up to 50.");
+
+        assertEquals("Here are the tasks in your list:\n1. [T][ ] Task 1\n2. [T][ ] Task 2\n"
+                + "📖 Page 1 of 60. Type 'list 2 --page-size 2' to turn the page, hero!",
+                command.execute(list("--page-size 2")));
+    }
+
+    /**
+     * Tests that the streamed chunks join up to the full listing.
+     *
+     * @throws ArtsException if an error occurs during command execution.
+     */
+    @Test
+    public void testStreamMatchesFullListing() throws ArtsException {
+        ListCommand command = new ListCommand(tasks);
+        Iterator<String> chunks = command.stream(list("--all --page-size 2"));
+        StringBuilder joined = new StringBuilder();
+        int count = 0;
+        while (chunks.hasNext()) {
+            joined.append(chunks.next());
+            count++;
+        }
+
+        assertEquals(3, count, "Five tasks in pages of two should take three chunks.");
+        assertEquals(command.execute(list("--all --page-size 2")), joined.toString());
+    }
+
+    /**
+     * Tests that an ArtsException is thrown for a page that does not exist or an invalid argument.
+     */
+    @Test
+    public void testInvalidPage() {
+        ListCommand command = new ListCommand(tasks);
+        assertThrows(ArtsException.class, () -> command.execute(list("4 --page-size 2")));
+        assertThrows(ArtsException.class, () -> command.execute(list("0")));
+        assertThrows(ArtsException.class, () -> command.execute(list("--page-size")));
+    }
+
+    private static ParsedCommand list(String arguments) {
+        return new ParsedCommand(CommandType.LIST, arguments);
+    }
+}
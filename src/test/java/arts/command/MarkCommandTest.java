@@ -9,9 +9,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import arts.ArtsException;
+import arts.enums.CommandType;
 import arts.task.Task;
 import arts.task.TaskList;
 import arts.task.Todo;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -47,9 +49,9 @@ public class MarkCommandTest {
     @Test
     public void testMarkTaskSuccessfully() throws ArtsException {
         String taskIndex = "1";
-        MarkCommand command = new MarkCommand(tasks, storage, ui, taskIndex);
+        MarkCommand command = new MarkCommand(tasks, storage, ui);
 
-        String result = command.execute();
+        String result = command.execute(new ParsedCommand(CommandType.MARK, taskIndex));
 
         assertEquals(true, tasks.getTask(0).isDone(), "Task should be marked as done.");
         assertEquals("Victory! 🌟 I've marked this task as complete:\n🎉 [T][X] Read a book 🎉\n"
@@ -63,9 +65,10 @@ public class MarkCommandTest {
     @Test
     public void testInvalidTaskIndexThrowsException() {
         String taskIndex = "2"; // Out of bounds
-        MarkCommand command = new MarkCommand(tasks, storage, ui, taskIndex);
+        MarkCommand command = new MarkCommand(tasks, storage, ui);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.MARK, taskIndex)));
         assertEquals("Task index is out of bounds.", exception.getMessage(),
                 "Exception message should indicate task index is out of bounds.");
     }
@@ -77,9 +80,10 @@ public class MarkCommandTest {
     @Test
     public void testNonNumericTaskIndexThrowsException() {
         String taskIndex = "a"; // Non-numeric
-        MarkCommand command = new MarkCommand(tasks, storage, ui, taskIndex);
+        MarkCommand command = new MarkCommand(tasks, storage, ui);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.MARK, taskIndex)));
         assertEquals("Task index must be a number.", exception.getMessage(),
                 "Exception message should indicate task index is not a number.");
     }
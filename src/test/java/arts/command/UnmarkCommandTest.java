@@ -9,9 +9,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import arts.ArtsException;
+import arts.enums.CommandType;
 import arts.task.Task;
 import arts.task.TaskList;
 import arts.task.Todo;
+import arts.util.ParsedCommand;
 import arts.util.Storage;
 import arts.util.Ui;
 
@@ -49,9 +51,9 @@ public class UnmarkCommandTest {
     @Test
     public void testUnmarkTaskSuccessfully() throws ArtsException {
         String taskIndex = "1";
-        UnmarkCommand command = new UnmarkCommand(tasks, storage, ui, taskIndex);
+        UnmarkCommand command = new UnmarkCommand(tasks, storage, ui);
 
-        String result = command.execute();
+        String result = command.execute(new ParsedCommand(CommandType.UNMARK, taskIndex));
 
         assertEquals(false, tasks.getTask(0).isDone(), "Task should be unmarked as not done.");
         assertEquals("🎌 Fear not, for this task has been unmarked! 🗒️\n"
@@ -65,9 +67,10 @@ public class UnmarkCommandTest {
     @Test
     public void testInvalidTaskIndexThrowsException() {
         String taskIndex = "2"; // Out of bounds
-        UnmarkCommand command = new UnmarkCommand(tasks, storage, ui, taskIndex);
+        UnmarkCommand command = new UnmarkCommand(tasks, storage, ui);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.UNMARK, taskIndex)));
         assertEquals("Task index is out of bounds.", exception.getMessage(),
                 "Exception message should indicate task index is out of bounds.");
     }
@@ -79,9 +82,10 @@ public class UnmarkCommandTest {
     @Test
     public void testNonNumericTaskIndexThrowsException() {
         String taskIndex = "a"; // Non-numeric
-        UnmarkCommand command = new UnmarkCommand(tasks, storage, ui, taskIndex);
+        UnmarkCommand command = new UnmarkCommand(tasks, storage, ui);
 
-        ArtsException exception = assertThrows(ArtsException.class, command::execute);
+        ArtsException exception = assertThrows(ArtsException.class,
+                () -> command.execute(new ParsedCommand(CommandType.UNMARK, taskIndex)));
         assertEquals("Task index must be a number.", exception.getMessage(),
                 "Exception message should indicate task index is not a number.");
     }
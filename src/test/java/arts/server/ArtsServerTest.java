@@ -0,0 +1,130 @@
+package arts.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents the test class for the ArtsServer class.
+ * This class verifies that connections of one user share their tasks, that idle sessions are evicted
+ * and that a task file that cannot be loaded is not replaced.
+ */
+public class ArtsServerTest {
+
+    /**
+     * Tests that two connections of the same user see each other's tasks, including after eviction.
+     */
+    @Test
+    public void testSharedSessionAndEviction() throws Exception {
+        ArtsServer server = new ArtsServer(0, Files.createTempDirectory("arts-server"), 2, 60_000);
+        Thread serving = new Thread(() -> {
+            try {
+                server.run();
+            } catch (IOException e) {
+                // The test fails on the client side
+            }
+        });
+        serving.start();
+
+        try (Socket first = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                Socket second = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            BufferedReader firstIn = reader(first);
+            Writer firstOut = writer(first);
+            BufferedReader secondIn = reader(second);
+            Writer secondOut = writer(second);
+            readResponse(firstIn);
+            readResponse(secondIn);
+
+            send(firstOut, "hero\ntodo .read book");
+            readResponse(firstIn);
+            assertTrue(readResponse(firstIn).contains(".read book"), "The task should be added.");
+
+            send(secondOut, "hero\nlist");
+            readResponse(secondIn);
+            assertEquals("Here are the tasks in your list:\n1. [T][ ] .read book\n", readResponse(secondIn),
+                    "Connections of the same user should share their tasks.");
+
+            server.evictIdleSessions(System.currentTimeMillis() + 60_000);
+            assertEquals(0, server.getSessionCount(), "An idle session should be evicted.");
+            send(secondOut, "list\nbye");
+            assertTrue(readResponse(secondIn).contains(".read book"), "An evicted session should be reloaded.");
+            readResponse(secondIn);
+            assertNull(secondIn.readLine(), "bye should close the connection.");
+        } finally {
+            server.close();
+        }
+    }
+
+    /**
+     * Tests that a task file that cannot be loaded is reported, kept as it is, and loaded on a later command.
+     */
+    @Test
+    public void testFailedLoadIsReportedAndRetried() throws Exception {
+        Path dataDirectory = Files.createTempDirectory("arts-server");
+        Path taskFile = Files.createDirectory(dataDirectory.resolve("hero.txt"));
+        ArtsServer server = new ArtsServer(0, dataDirectory, 2, 60_000);
+        Thread serving = new Thread(() -> {
+            try {
+                server.run();
+            } catch (IOException e) {
+                // The test fails on the client side
+            }
+        });
+        serving.start();
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            BufferedReader in = reader(socket);
+            Writer out = writer(socket);
+            readResponse(in);
+
+            send(out, "hero\nlist");
+            readResponse(in);
+            assertTrue(readResponse(in).startsWith("OOPS!!! Your tasks could not be loaded."),
+                    "A failed load should be reported.");
+            assertEquals(0, server.getSessionCount(), "A failed load should not be kept.");
+            assertTrue(Files.isDirectory(taskFile), "The unreadable task file should be left alone.");
+
+            Files.delete(taskFile);
+            send(out, "todo read book\nlist");
+            readResponse(in);
+            assertEquals("Here are the tasks in your list:\n1. [T][ ] read book\n", readResponse(in),
+                    "The next command should load the tasks again.");
+        } finally {
+            server.close();
+        }
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static Writer writer(Socket socket) throws IOException {
+        return new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    private static void send(Writer out, String lines) throws IOException {
+        out.write(lines + "\n");
+        out.flush();
+    }
+
+    private static String readResponse(BufferedReader in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (String line = in.readLine(); !line.equals("."); line = in.readLine()) {
+            sb.append(line.startsWith(".") ? line.substring(1) : line).append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package arts.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents the test class for the CompactTaskList class.
+ * This class verifies that tasks read back from the rows match the tasks that were stored,
+ * and that a TaskList backed by a compact list keeps completion status and lookups correct.
+ */
+public class CompactTaskListTest {
+    private static final LocalDateTime BY = LocalDateTime.of(2024, 8, 29, 18, 0);
+
+    /**
+     * Tests that every type of task is read back with its details and completion status.
+     */
+    @Test
+    public void testGet_returnsStoredTasks() {
+        CompactTaskList tasks = new CompactTaskList();
+        Todo todo = new Todo("Read a book");
+        Deadline deadline = new Deadline("Finish report", BY);
+        deadline.markAsDone();
+        Event event = new Event("Conference", BY, BY.plusHours(3));
+
+        tasks.add(todo);
+        tasks.add(deadline);
+        tasks.add(event);
+
+        assertEquals(List.of(todo, deadline, event), tasks);
+        assertEquals(deadline.toFileFormat(), tasks.get(1).toFileFormat());
+        assertEquals(event.toString(), tasks.get(2).toString());
+        assertFalse(tasks.get(0).isDone());
+    }
+
+    /**
+     * Tests that inserting and removing rows moves completion status along with the rest of each row.
+     */
+    @Test
+    public void testAddAndRemove_keepCompletionStatus() {
+        CompactTaskList tasks = new CompactTaskList();
+        for (int i = 0; i < 40; i++) {
+            Todo todo = new Todo("Task " + i);
+            if (i % 3 == 0) {
+                todo.markAsDone();
+            }
+            tasks.add(todo);
+        }
+        Todo inserted = new Todo("Inserted");
+        inserted.markAsDone();
+
+        tasks.add(1, inserted);
+        tasks.remove(4);
+
+        assertEquals(40, tasks.size());
+        assertTrue(tasks.get(1).isDone());
+        assertEquals("Task 2", tasks.get(3).getDescription());
+        assertEquals("Task 4", tasks.get(4).getDescription());
+        for (int i = 5; i < 40; i++) {
+            assertEquals(i % 3 == 0, tasks.get(i).isDone(), "Row " + i);
+        }
+    }
+
+    /**
+     * Tests that equal descriptions share one string, and that descriptions no longer used are dropped
+     * without changing the tasks that remain.
+     */
+    @Test
+    public void testDescriptions_sharedAndReclaimed() {
+        CompactTaskList tasks = new CompactTaskList();
+        tasks.add(new Todo("Water the plants"));
+        tasks.add(new Deadline("Water the plants", BY));
+        assertSame(tasks.get(0).getDescription(), tasks.get(1).getDescription());
+
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new Todo("Temporary " + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            tasks.remove(tasks.size() - 1);
+        }
+        tasks.add(new Todo("Temporary 5"));
+
+        assertEquals(new Deadline("Water the plants", BY), tasks.get(1));
+        assertEquals(new Todo("Temporary 5"), tasks.get(2));
+        assertEquals(-1, tasks.indexOf(new Todo("Temporary 6")));
+    }
+
+    /**
+     * Tests that a TaskList backed by a compact list finds tasks and keeps changes to completion status.
+     */
+    @Test
+    public void testTaskList_compactBacking() {
+        TaskList tasks = new TaskList(new CompactTaskList(), false);
+        tasks.addTask(new Todo("Read a book"));
+        tasks.addTask(new Deadline("Finish report", BY));
+
+        tasks.setDone(1, true);
+
+        assertTrue(tasks.getTask(1).isDone());
+        assertTrue(tasks.contains(new Deadline("Finish report", BY)));
+        assertFalse(tasks.contains(new Deadline("Finish report", BY.plusMinutes(1))));
+        assertFalse(tasks.contains(new Todo("Finish report")));
+        assertEquals(1, tasks.getDeadlinesDueOn(LocalDate.of(2024, 8, 29)).size());
+        assertEquals(1, tasks.search("read").size());
+    }
+}
@@ -0,0 +1,33 @@
+package arts.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents the test class for the SearchIndex class.
+ * This class verifies that a prefix is looked up as one range of the index's words.
+ */
+public class SearchIndexTest {
+
+    /**
+     * Tests that a prefix query reads only the words that start with it, however many other words are indexed.
+     */
+    @Test
+    public void testPrefixReadsOnlyMatchingWords() {
+        SearchIndex index = new SearchIndex();
+        Todo report = new Todo("Write report");
+        Todo repair = new Todo("Repair bike");
+        index.add(report);
+        index.add(repair);
+        for (int i = 0; i < 1000; i++) {
+            index.add(new Todo("Task " + i + " ref" + i));
+        }
+
+        assertEquals(List.of("repair", "report"), List.copyOf(index.postingsStartingWith("rep").keySet()));
+        assertEquals(List.of(report, repair), index.search("rep"));
+        assertEquals(List.of(), index.search("port"), "Words should only match from their start.");
+    }
+}
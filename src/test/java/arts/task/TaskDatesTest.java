@@ -0,0 +1,59 @@
+package arts.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents the test class for the TaskDates class and the appendTo methods of tasks.
+ * This class verifies that times are appended exactly as the formatters they replace would print them.
+ */
+public class TaskDatesTest {
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy, h:mm a");
+    private static final DateTimeFormatter FILE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    /**
+     * Tests that every hour of the day, every month and years at the edges of four digits match the formatters.
+     */
+    @Test
+    public void testAppend_matchesFormatters() {
+        int[] years = {1, 999, 2024, 9999, 10000, 0, -5};
+        for (int year : years) {
+            for (int month = 1; month <= 12; month++) {
+                for (int hour = 0; hour < 24; hour++) {
+                    LocalDateTime dateTime = LocalDateTime.of(year, month, 1 + hour, hour, hour * 2 + 5);
+                    assertEquals(dateTime.format(DISPLAY_FORMATTER),
+                            TaskDates.appendDisplay(new StringBuilder(), dateTime).toString());
+                    assertEquals(dateTime.format(FILE_FORMATTER),
+                            TaskDates.appendFile(new StringBuilder(), dateTime).toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that appending tasks to a shared builder gives the same text as their string representations.
+     */
+    @Test
+    public void testAppendTo_matchesToString() {
+        LocalDateTime from = LocalDateTime.of(2024, 8, 29, 12, 0);
+        Task[] tasks = {new Todo("Read a book"), new Deadline("Finish report", from),
+            new Event("Conference", from, from.plusHours(13))};
+        tasks[1].markAsDone();
+
+        StringBuilder sb = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (Task task : tasks) {
+            task.appendTo(sb).append('\n');
+            task.appendFileFormatTo(sb).append('\n');
+            expected.append(task).append('\n').append(task.toFileFormat()).append('\n');
+        }
+
+        assertEquals(expected.toString(), sb.toString());
+        assertEquals("[D][X] Finish report (by: Aug 29 2024, 12:00 PM)", tasks[1].toString());
+        assertEquals("E | 0 | Conference | 2024-08-29 1200 | 2024-08-30 0100", tasks[2].toFileFormat());
+    }
+}
@@ -0,0 +1,217 @@
+package arts.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import arts.Cancellation;
+
+/**
+ * Represents the test class for the TaskList class.
+ * This class verifies that duplicate detection stays correct as tasks are added, removed and sorted.
+ */
+public class TaskListTest {
+
+    /**
+     * Tests that equivalent tasks are detected regardless of completion status.
+     */
+    @Test
+    public void testContainsEquivalentTask() {
+        TaskList tasks = new TaskList();
+        LocalDateTime by = LocalDateTime.of(2024, 8, 29, 18, 0);
+        Deadline deadline = new Deadline("Finish report", by);
+        deadline.markAsDone();
+        tasks.addTask(deadline);
+
+        assertTrue(tasks.contains(new Deadline("Finish report", by)), "An equivalent deadline should be found.");
+        assertFalse(tasks.contains(new Deadline("Finish report", by.plusDays(1))),
+                "A deadline with another date should not be found.");
+        assertFalse(tasks.contains(new Todo("Finish report")), "A task of another type should not be found.");
+    }
+
+    /**
+     * Tests that the index follows removals, including when duplicates were loaded from a file.
+     */
+    @Test
+    public void testContainsAfterRemovalAndSort() {
+        ArrayList<Task> loaded = new ArrayList<>();
+        loaded.add(new Todo("Read a book"));
+        loaded.add(new Todo("Read a book"));
+        loaded.add(new Event("Conference", LocalDateTime.of(2024, 8, 29, 9, 0),
+                LocalDateTime.of(2024, 8, 29, 17, 0)));
+        TaskList tasks = new TaskList(loaded);
+
+        tasks.sortEvents();
+        tasks.removeTask(1);
+        assertTrue(tasks.contains(new Todo("Read a book")), "One copy of the todo should remain.");
+
+        tasks.removeTask(1);
+        assertFalse(tasks.contains(new Todo("Read a book")), "The todo should be gone after removing both copies.");
+        assertTrue(tasks.contains(new Event("Conference", LocalDateTime.of(2024, 8, 29, 9, 0),
+                LocalDateTime.of(2024, 8, 29, 17, 0))), "The event should still be found after sorting.");
+    }
+
+    /**
+     * Tests word, prefix, AND and OR searches, that removed tasks are no longer found,
+     * and that results follow the order of the list after it is sorted.
+     */
+    @Test
+    public void testSearch() {
+        TaskList tasks = new TaskList();
+        Todo book = new Todo("Read a Book");
+        Todo report = new Todo("Write report");
+        Todo notes = new Todo("Read lecture notes");
+        tasks.addTask(book);
+        tasks.addTask(report);
+        tasks.addTask(notes);
+
+        assertEquals(List.of(book, notes), tasks.search("read"), "Search should ignore case.");
+        assertEquals(List.of(report), tasks.search("rep"), "Search should match prefixes.");
+        assertEquals(List.of(), tasks.search("ook"), "Search should only match the start of words.");
+        assertEquals(List.of(notes), tasks.search("read notes"), "All words should have to match.");
+        assertEquals(List.of(book, report), tasks.search("book OR write"), "Either group should match.");
+
+        tasks.removeTask(0);
+        assertEquals(List.of(notes), tasks.search("read"), "Removed tasks should not be found.");
+
+        Deadline essay = new Deadline("Read essay", LocalDateTime.of(2024, 8, 29, 18, 0));
+        tasks.addTask(essay);
+        tasks.sortDeadlines();
+        assertEquals(List.of(essay, notes), tasks.search("read"), "Results should follow the sorted list.");
+    }
+
+    /**
+     * Tests that events overlapping a range or a day are found in start order, including long events.
+     */
+    @Test
+    public void testGetEventsBetween() {
+        TaskList tasks = new TaskList();
+        Event trip = new Event("Trip", LocalDateTime.of(2024, 8, 1, 9, 0), LocalDateTime.of(2024, 8, 31, 17, 0));
+        Event party = new Event("Party", LocalDateTime.of(2024, 8, 30, 20, 0), LocalDateTime.of(2024, 8, 31, 1, 0));
+        Event talk = new Event("Talk", LocalDateTime.of(2024, 8, 29, 9, 0), LocalDateTime.of(2024, 8, 29, 17, 0));
+        tasks.addTask(party);
+        tasks.addTask(new Todo("Pack bags"));
+        tasks.addTask(trip);
+        tasks.addTask(talk);
+
+        assertEquals(List.of(trip, talk), tasks.getEventsOn(LocalDate.of(2024, 8, 29)),
+                "Events should be found in start order, including ones that started earlier.");
+        assertEquals(List.of(trip, party), tasks.getEventsBetween(LocalDateTime.of(2024, 8, 30, 21, 0),
+                LocalDateTime.of(2024, 8, 30, 22, 0)), "Events spanning the whole range should be found.");
+        assertTrue(tasks.getEventsBetween(LocalDateTime.of(2024, 8, 31, 18, 0),
+                LocalDateTime.of(2024, 9, 1, 0, 0)).isEmpty(),
+                "Events that ended before the range should not be found.");
+
+        tasks.removeTask(2);
+        assertEquals(List.of(talk), tasks.getEventsOn(LocalDate.of(2024, 8, 29)),
+                "Removed events should not be found.");
+    }
+
+    /**
+     * Tests due, next and overdue lookups, and that sorting deadlines only changes the list when needed.
+     */
+    @Test
+    public void testDeadlineQueries() {
+        TaskList tasks = new TaskList();
+        LocalDateTime now = LocalDateTime.of(2024, 8, 29, 12, 0);
+        Deadline late = new Deadline("Return book", now.minusDays(1));
+        Deadline done = new Deadline("Pay rent", now.minusDays(2));
+        Deadline report = new Deadline("Submit report", now.plusHours(6));
+        Deadline essay = new Deadline("Finish essay", now.plusDays(2));
+        done.markAsDone();
+        tasks.addTask(essay);
+        tasks.addTask(new Todo("Read a book"));
+        tasks.addTask(late);
+        tasks.addTask(done);
+        tasks.addTask(report);
+
+        assertEquals(List.of(report), tasks.getDeadlinesDueOn(LocalDate.of(2024, 8, 29)),
+                "Only deadlines due on the date should be found.");
+        assertEquals(List.of(report, essay), tasks.getNextDeadlines(now, 5), "Upcoming deadlines should be in order.");
+        assertEquals(List.of(report), tasks.getNextDeadlines(now, 1), "At most the requested number should be found.");
+        assertEquals(List.of(late), tasks.getOverdueDeadlines(now), "Done deadlines should not be overdue.");
+
+        assertTrue(tasks.sortDeadlines(), "Sorting an unsorted list should change it.");
+        assertEquals(List.of(done, late, report, essay), tasks.getTasks().subList(0, 4),
+                "Deadlines should come first in due order.");
+        assertFalse(tasks.sortDeadlines(), "Sorting a sorted list should not change it.");
+
+        tasks.removeTask(2);
+        assertEquals(List.of(essay), tasks.getNextDeadlines(now, 5), "Removed deadlines should not be found.");
+    }
+
+    /**
+     * Tests that a cancelled search or sort stops without leaving a partial index or a reordered list.
+     */
+    @Test
+    public void testCancelledCommandsLeaveListUnchanged() {
+        TaskList tasks = new TaskList();
+        Deadline later = new Deadline("Write essay", LocalDateTime.of(2024, 9, 1, 18, 0));
+        Deadline sooner = new Deadline("Read book", LocalDateTime.of(2024, 8, 1, 18, 0));
+        tasks.addTask(later);
+        tasks.addTask(sooner);
+
+        Cancellation cancellation = new Cancellation();
+        cancellation.cancel();
+        assertThrows(CancellationException.class, () -> cancellation.run(() -> tasks.search("essay")));
+        assertThrows(CancellationException.class, () -> cancellation.run(tasks::sortDeadlines));
+        assertEquals(List.of(later, sooner), tasks.getTasks(), "A cancelled sort should not reorder the list.");
+
+        assertEquals(List.of(later), tasks.search("essay"), "A later search should build a complete index.");
+        assertTrue(tasks.sortDeadlines(), "A later sort should reorder the list.");
+    }
+
+    /**
+     * Tests that sessions adding and searching tasks on different threads see a consistent list.
+     */
+    @Test
+    public void testConcurrentSessions() throws Exception {
+        TaskList tasks = new TaskList();
+        ExecutorService sessions = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (String name : List.of("first", "second")) {
+            futures.add(sessions.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    Todo todo = new Todo(name + " session task " + i);
+                    tasks.update(() -> {
+                        if (!tasks.contains(todo)) {
+                            tasks.addTask(todo);
+                        }
+                        return null;
+                    });
+                }
+            }));
+            futures.add(sessions.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    tasks.read(() -> {
+                        int size = tasks.size();
+                        assertEquals(size, tasks.search("task").size(), "Every task should be found.");
+                        return null;
+                    });
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        sessions.shutdown();
+        assertTrue(sessions.awaitTermination(1, TimeUnit.SECONDS), "Every session should finish.");
+
+        assertEquals(2000, tasks.size(), "Every task should be added once.");
+        assertEquals(1000, tasks.search("second").size(), "The search index should be complete.");
+        assertThrows(UnsupportedOperationException.class, () -> tasks.getTasks().clear());
+    }
+}
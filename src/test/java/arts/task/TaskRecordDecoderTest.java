@@ -0,0 +1,68 @@
+package arts.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import arts.ArtsException;
+
+/**
+ * Represents the test class for the TaskRecordDecoder class.
+ * This class verifies that file records are decoded correctly and that malformed records are rejected.
+ */
+public class TaskRecordDecoderTest {
+
+    /**
+     * Tests that each task type survives a round trip through its file format.
+     *
+     * @throws ArtsException if a record cannot be decoded.
+     */
+    @Test
+    public void testDecodeRoundTrip() throws ArtsException {
+        String[] records = {
+            "T | 1 | Buy groceries",
+            "D | 0 | Submit assignment | 2024-08-29 1200",
+            "E | 1 | Team meeting | 2024-08-29 1000 | 2024-08-29 1200"
+        };
+        for (String record : records) {
+            assertEquals(record, TaskRecordDecoder.decode(record).toFileFormat(),
+                    "The decoded task should match the original record.");
+        }
+    }
+
+    /**
+     * Tests that a deadline description may contain the separator.
+     *
+     * @throws ArtsException if the record cannot be decoded.
+     */
+    @Test
+    public void testDecodeDescriptionWithSeparator() throws ArtsException {
+        Task task = TaskRecordDecoder.decode("D | 0 | Read A | B | 2024-08-29 1200");
+        assertEquals("Read A | B", task.getDescription(), "The description should keep the separator.");
+    }
+
+    /**
+     * Tests that malformed records are rejected with a descriptive ArtsException.
+     */
+    @Test
+    public void testDecodeMalformedRecordsThrowsException() {
+        String[] records = {
+            "",
+            "X | 0 | Unknown type",
+            "T | 2 | Bad status",
+            "T|0|No spaces",
+            "D | 0 | Bad date | 2024-13-29 1200",
+            "D | 0 | Bad digits | 2024-08-2x 1200",
+            "E | 0 | Backwards | 2024-08-29 1200 | 2024-08-29 1000",
+            "T | 0 |    "
+        };
+        for (String record : records) {
+            ArtsException exception = assertThrows(ArtsException.class, () -> TaskRecordDecoder.decode(record),
+                    "The record '" + record + "' should be rejected.");
+            assertTrue(exception.getMessage().startsWith("Invalid task record"),
+                    "The message should explain that the record is invalid.");
+        }
+    }
+}
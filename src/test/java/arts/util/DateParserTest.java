@@ -0,0 +1,76 @@
+package arts.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Represents the unit tests for the DateParser class, covering each accepted layout and the inputs
+ * it rejects. Relative days are read from a clock fixed on Thursday, 29 August 2024.
+ */
+public class DateParserTest {
+    private static final Clock CLOCK = Clock.fixed(LocalDateTime.of(2024, 8, 29, 10, 0).toInstant(ZoneOffset.UTC),
+            ZoneOffset.UTC);
+
+    private final DateParser parser = new DateParser(CLOCK);
+
+    @Test
+    public void testParseDateTime_numericLayouts() {
+        LocalDateTime expected = LocalDateTime.of(2024, 8, 9, 18, 0);
+
+        assertEquals(expected, parser.parseDateTime("2024-08-09 1800"));
+        assertEquals(expected, parser.parseDateTime("2024/8/9 18:00"));
+        assertEquals(expected, parser.parseDateTime("9/8/2024 1800"));
+        assertEquals(expected, parser.parseDateTime("09.08.2024 6pm"));
+        assertEquals(expected, parser.parseDateTime("2024-08-09T18:00"));
+        assertEquals(expected, parser.parseDateTime("  2024-08-09   1800 "));
+    }
+
+    @Test
+    public void testParseDateTime_namedLayouts() {
+        LocalDateTime expected = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+        assertEquals(expected, parser.parseDateTime("31 Dec 2024 2359"));
+        assertEquals(expected, parser.parseDateTime("December 31, 2024 11:59 pm"));
+        assertEquals(expected, parser.parseDateTime("Dec 31 2024, 11:59 PM"));
+        assertEquals(LocalDateTime.of(2024, 12, 31, 0, 30), parser.parseDateTime("dec 31 2024 12:30am"));
+    }
+
+    @Test
+    public void testParseDateTime_relativeDays() {
+        assertEquals(LocalDateTime.of(2024, 8, 30, 18, 0), parser.parseDateTime("tomorrow 1800"));
+        assertEquals(LocalDateTime.of(2024, 8, 29, 9, 0), parser.parseDateTime("Today 9am"));
+        assertEquals(LocalDateTime.of(2024, 8, 30, 12, 0), parser.parseDateTime("fri 12pm"));
+        assertEquals(LocalDateTime.of(2024, 9, 5, 8, 15), parser.parseDateTime("thursday 08:15"));
+    }
+
+    @Test
+    public void testParseDate_layouts() {
+        assertEquals(LocalDate.of(2024, 2, 29), parser.parseDate("2024-02-29"));
+        assertEquals(LocalDate.of(2024, 2, 29), parser.parseDate("29/2/2024"));
+        assertEquals(LocalDate.of(2024, 8, 28), parser.parseDate("yesterday"));
+        assertEquals(LocalDate.of(2024, 9, 2), parser.parseDate("Mon"));
+    }
+
+    @Test
+    public void testParse_invalidInput_returnsNull() {
+        assertNull(parser.parseDate("2023-02-29"));
+        assertNull(parser.parseDate("29-08-2024"));
+        assertNull(parser.parseDate("2024-13-01"));
+        assertNull(parser.parseDate("someday"));
+        assertNull(parser.parseDate(""));
+        assertNull(parser.parseDateTime("2024-08-29"));
+        assertNull(parser.parseDateTime("2024-08-29 2400"));
+        assertNull(parser.parseDateTime("2024-08-29 1860"));
+        assertNull(parser.parseDateTime("2024-08-29 13pm"));
+        assertNull(parser.parseDateTime("2024-08-29 18"));
+        assertNull(parser.parseDateTime("tomorrow"));
+        assertNull(parser.parseDateTime("31 Foo 2024 1800"));
+    }
+}
@@ -0,0 +1,77 @@
+package arts.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import arts.ArtsException;
+import arts.task.Task;
+import arts.task.TaskList;
+import arts.task.Todo;
+
+/**
+ * Test class for the PagedTaskFile class.
+ * This class verifies that changes made through a paged list are written to the task file in place.
+ */
+public class PagedTaskFileTest {
+
+    /**
+     * Tests that adds, marks and deletes spread over several pages are visible both through the list
+     * and to a normal load of the file, while only one page is cached.
+     *
+     * @throws IOException if the test file cannot be written.
+     * @throws ArtsException if the tasks cannot be loaded or saved.
+     */
+    @Test
+    public void testChangesAreWrittenInPlace() throws IOException, ArtsException {
+        Path file = Files.createTempFile("arts-paged", ".txt");
+        StringBuilder sb = new StringBuilder("# a header line\n");
+        List<String> expected = new ArrayList<>();
+        int count = PagedTaskFile.PAGE_SIZE * 3 + 5;
+        for (int i = 0; i < count; i++) {
+            expected.add("T | 0 | Task number " + i);
+            sb.append(expected.get(i)).append("\n");
+        }
+        Files.writeString(file, sb.toString());
+
+        Storage storage = new Storage(file.toString());
+        TaskList tasks = new TaskList(storage.loadPaged(1), false);
+        assertEquals(count, tasks.size(), "Every task should be counted.");
+
+        for (int index : new int[] {PagedTaskFile.PAGE_SIZE * 2, 0, PagedTaskFile.PAGE_SIZE}) {
+            tasks.removeTask(index);
+            storage.saveDelete(index, tasks.getTasks());
+            expected.remove(index);
+        }
+        int marked = PagedTaskFile.PAGE_SIZE + 10;
+        tasks.getTask(marked).markAsDone();
+        storage.saveMark(marked, tasks.getTasks());
+        expected.set(marked, expected.get(marked).replace("T | 0", "T | 1"));
+        Todo added = new Todo("Added task");
+        tasks.addTask(added);
+        storage.saveAdd(added, tasks.getTasks());
+        expected.add(added.toFileFormat());
+
+        assertTrue(tasks.contains(new Todo("Task number 1")), "Tasks should be found by scanning.");
+        List<String> viaList = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            viaList.add(tasks.getTask(i).toFileFormat());
+        }
+        assertEquals(expected, viaList, "The list should reflect every change.");
+
+        storage.close();
+        List<String> viaFile = new ArrayList<>();
+        for (Task task : new Storage(file.toString()).load()) {
+            viaFile.add(task.toFileFormat());
+        }
+        assertEquals(expected, viaFile, "The file should reflect every change.");
+        Files.delete(file);
+    }
+}
@@ -1,7 +1,7 @@
 package arts.util;
 
-import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -40,13 +40,50 @@ public class ParserTest {
     }
 
     /**
-     * Tests the parseArguments() method.
-     * Verifies that the input string is correctly split into an array of arguments.
+     * Tests the parse() method.
+     * Verifies that the arguments after the command's keyword are trimmed, and empty when there are none.
+     *
+     * @throws ArtsException if the command cannot be parsed.
+     */
+    @Test
+    public void testParse_arguments() throws ArtsException {
+        ParsedCommand command = parser.parse("  todo   read book  ");
+        assertEquals(CommandType.TODO, command.getType());
+        assertEquals("read book", command.getArguments(), "The arguments should be trimmed.");
+
+        command = parser.parse("LIST");
+        assertEquals(CommandType.LIST, command.getType(), "Keywords should be matched regardless of case.");
+        assertFalse(command.hasArguments(), "A command without arguments should have none.");
+    }
+
+    /**
+     * Tests that aliases, unambiguous prefixes and multi-word keywords are recognized.
+     *
+     * @throws ArtsException if a command cannot be parsed.
+     */
+    @Test
+    public void testParse_aliasesPrefixesAndMultiWordCommands() throws ArtsException {
+        assertEquals(CommandType.DEADLINE, parser.parseCommand("dl report /by 2024-08-29 1800"));
+        assertEquals(CommandType.DEADLINE, parser.parseCommand("dead report /by 2024-08-29 1800"));
+        assertEquals(CommandType.BYE, parser.parseCommand("exit"));
+        assertEquals(CommandType.EVENT, parser.parseCommand("event party /from x /to y"),
+                "A whole keyword should be preferred to a longer one it is a prefix of.");
+        assertEquals(CommandType.EVENTS, parser.parseCommand("events /on 2024-08-29"));
+        assertEquals(CommandType.SORT_DEADLINES, parser.parseCommand("sort deadlines"));
+        assertEquals(CommandType.SORT_EVENTS, parser.parseCommand("so   ev"));
+        assertEquals("3", parser.parse("sort d 3").getArguments());
+    }
+
+    /**
+     * Tests that a prefix of several commands is rejected with the possible keywords.
      */
     @Test
-    public void testParseArguments() {
-        String[] expected = {"todo", "task"};
-        assertArrayEquals(expected, parser.parseArguments("todo task"),
-                "The arguments should be split correctly.");
+    public void testParse_ambiguousPrefix() {
+        ArtsException e = assertThrows(ArtsException.class, () -> parser.parse("de 1"));
+        assertEquals("Did you mean deadline or delete?", e.getMessage());
+        e = assertThrows(ArtsException.class, () -> parser.parse("sort"));
+        assertEquals("Did you mean sort deadlines or sort events?", e.getMessage());
+        assertThrows(ArtsException.class, () -> parser.parse("todos"),
+                "A word longer than every keyword should not match.");
     }
 }
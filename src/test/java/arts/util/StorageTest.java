@@ -1,9 +1,13 @@
 package arts.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +34,7 @@ public class StorageTest {
     public void setUp() {
         storage = new Storage(filePath);
         new File(filePath).delete();
+        new File(filePath + ".journal").delete();
     }
 
     /**
@@ -51,4 +56,140 @@ public class StorageTest {
         assertEquals(task.toFileFormat(), loadedTasks.get(0).toFileFormat(),
                 "The loaded task should match the saved task.");
     }
+
+    /**
+     * Tests that mutations recorded in journaled mode are replayed on the next load.
+     *
+     * @throws ArtsException if there is an error saving or loading the tasks.
+     */
+    @Test
+    public void testJournaledMutationsAreReplayed() throws ArtsException {
+        Storage journaled = new Storage(filePath, true);
+        ArrayList<Task> tasks = journaled.load();
+
+        tasks.add(new Todo("First"));
+        journaled.saveAdd(tasks.get(0), tasks);
+        tasks.add(new Todo("Second"));
+        journaled.saveAdd(tasks.get(1), tasks);
+        tasks.get(1).markAsDone();
+        journaled.saveMark(1, tasks);
+        tasks.remove(0);
+        journaled.saveDelete(0, tasks);
+
+        ArrayList<Task> loadedTasks = new Storage(filePath, true).load();
+
+        assertEquals(1, loadedTasks.size(), "There should be one task after replaying the journal.");
+        assertEquals("T | 1 | Second", loadedTasks.get(0).toFileFormat(),
+                "The replayed task should reflect the journaled mark.");
+    }
+
+    /**
+     * Tests that a final journal record cut short by a crash is dropped, and that later records
+     * are still appended and replayed after it.
+     *
+     * @throws ArtsException if there is an error saving or loading the tasks.
+     * @throws IOException if the journal cannot be written to directly.
+     */
+    @Test
+    public void testIncompleteFinalJournalRecordIsSkipped() throws ArtsException, IOException {
+        Storage journaled = new Storage(filePath, true);
+        ArrayList<Task> tasks = journaled.load();
+        tasks.add(new Todo("First"));
+        journaled.saveAdd(tasks.get(0), tasks);
+        try (FileWriter writer = new FileWriter(filePath + ".journal", true)) {
+            writer.write("A | T | 0 | Sec");
+        }
+
+        Storage reloaded = new Storage(filePath, true);
+        ArrayList<Task> loadedTasks = reloaded.load();
+        assertEquals(1, loadedTasks.size(), "The incomplete record should be skipped.");
+
+        loadedTasks.add(new Todo("Second"));
+        reloaded.saveAdd(loadedTasks.get(1), loadedTasks);
+        assertEquals(2, new Storage(filePath, true).load().size(), "Records after the repair should be replayed.");
+    }
+
+    /**
+     * Tests that changes made during a batch are saved once, when the batch ends.
+     *
+     * @throws ArtsException if there is an error saving or loading the tasks.
+     */
+    @Test
+    public void testBatchIsSavedWhenItEnds() throws ArtsException {
+        Storage journaled = new Storage(filePath, true);
+        ArrayList<Task> tasks = journaled.load();
+
+        journaled.beginBatch();
+        tasks.add(new Todo("First"));
+        journaled.saveAdd(tasks.get(0), tasks);
+        tasks.get(0).markAsDone();
+        journaled.saveMark(0, tasks);
+        assertEquals(0, new Storage(filePath, true).load().size(), "Nothing should be saved during a batch.");
+
+        journaled.endBatch(tasks);
+        ArrayList<Task> loadedTasks = new Storage(filePath, true).load();
+
+        assertEquals(1, loadedTasks.size(), "The batch should be saved when it ends.");
+        assertEquals("T | 1 | First", loadedTasks.get(0).toFileFormat(), "The saved task should be marked.");
+    }
+
+    /**
+     * Tests that a failed save is reported instead of being silently ignored.
+     *
+     * @throws IOException if the test file cannot be created.
+     */
+    @Test
+    public void testSaveFailureThrowsException() throws IOException {
+        new File(filePath).createNewFile();
+        Storage unwritable = new Storage(filePath + "/nested.txt");
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("Test Task"));
+
+        assertThrows(ArtsException.class, () -> unwritable.save(tasks),
+                "Saving under a regular file should throw an ArtsException.");
+    }
+
+    /**
+     * Tests that changes handed to the background writer are on disk once awaitDurable returns.
+     *
+     * @throws ArtsException if there is an error saving or loading the tasks.
+     */
+    @Test
+    public void testAsyncSaveIsDurableAfterAwait() throws ArtsException {
+        storage.startAsync(5, new ReentrantReadWriteLock().readLock());
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(new Todo("Task " + i));
+            storage.saveAdd(tasks.get(i), tasks);
+        }
+        storage.awaitDurable();
+
+        assertEquals(10, new Storage(filePath).load().size(), "All queued saves should be on disk.");
+        storage.close();
+    }
+
+    /**
+     * Tests that closing the storage while holding the list's write lock saves the list as it is then,
+     * without waiting for the background writer, which cannot read the list until the lock is released.
+     *
+     * @throws ArtsException if there is an error saving or loading the tasks.
+     */
+    @Test
+    public void testCloseUnderWriteLockSavesLatestList() throws ArtsException {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        storage.startAsync(1000, lock.readLock());
+        ArrayList<Task> tasks = new ArrayList<>();
+
+        lock.writeLock().lock();
+        try {
+            tasks.add(new Todo("First"));
+            storage.saveAdd(tasks.get(0), tasks);
+            tasks.add(new Todo("Second"));
+            storage.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        assertEquals(2, new Storage(filePath).load().size(), "The list should be saved as it was when closed.");
+    }
 }
@@ -0,0 +1,79 @@
+package arts.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import arts.ArtsException;
+import arts.enums.StorageFormat;
+import arts.task.Deadline;
+import arts.task.Event;
+import arts.task.Task;
+import arts.task.Todo;
+
+/**
+ * Test class for the TaskFileConverter class and the binary task file format.
+ * This class verifies that tasks survive a round trip between the text and binary formats.
+ */
+public class TaskFileConverterTest {
+
+    /**
+     * Tests that converting a text file to binary and back gives back the same file.
+     *
+     * @throws IOException if the test files cannot be written.
+     * @throws ArtsException if the tasks cannot be converted.
+     */
+    @Test
+    public void testRoundTrip() throws IOException, ArtsException {
+        Path text = Files.createTempFile("arts-convert", ".txt");
+        Path binary = Files.createTempFile("arts-convert", ".bin");
+        Path back = Files.createTempFile("arts-convert", ".txt");
+        Deadline deadline = new Deadline("Submit report", LocalDateTime.of(1969, 12, 31, 23, 59));
+        deadline.markAsDone();
+        List<Task> tasks = List.of(new Todo("Read a book"), deadline, new Todo("Read a book"),
+                new Event("Conference", LocalDateTime.of(2024, 8, 29, 9, 0), LocalDateTime.of(2024, 8, 30, 17, 0)));
+        new SnapshotWriter(text.toString()).write(tasks, "# checkpoint 3");
+
+        TaskFileConverter.convert(text.toString(), binary.toString(), StorageFormat.BINARY);
+        BinaryTaskFileLoader loader = new BinaryTaskFileLoader(binary.toString());
+        ArrayList<Task> loaded = loader.load();
+        TaskFileConverter.convert(binary.toString(), back.toString(), StorageFormat.TEXT);
+
+        assertTrue(BinaryTaskFormat.isBinary(binary), "The converted file should be binary.");
+        assertEquals("# checkpoint 3", loader.getHeader(), "The header should be carried over.");
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toFileFormat(), loaded.get(i).toFileFormat(), "Tasks should be unchanged.");
+        }
+        assertEquals(Files.readString(text), Files.readString(back), "Converting back should restore the file.");
+        Files.delete(text);
+        Files.delete(binary);
+        Files.delete(back);
+    }
+
+    /**
+     * Tests that a truncated binary file is reported instead of being partly loaded.
+     *
+     * @throws IOException if the test file cannot be written.
+     * @throws ArtsException if the tasks cannot be written.
+     */
+    @Test
+    public void testTruncatedBinaryFileIsRejected() throws IOException, ArtsException {
+        Path binary = Files.createTempFile("arts-convert", ".bin");
+        new SnapshotWriter(binary.toString(), StorageFormat.BINARY).write(List.of(new Todo("Read a book")));
+        byte[] bytes = Files.readAllBytes(binary);
+        Files.write(binary, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(ArtsException.class, () -> new BinaryTaskFileLoader(binary.toString()).load());
+        Files.delete(binary);
+    }
+}
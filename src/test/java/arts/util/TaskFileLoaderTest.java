@@ -0,0 +1,47 @@
+package arts.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import arts.ArtsException;
+import arts.task.Task;
+
+/**
+ * Test class for the TaskFileLoader class.
+ * This class contains unit tests verifying that task files are loaded completely and in order.
+ */
+public class TaskFileLoaderTest {
+
+    /**
+     * Tests that a file large enough to be split into several chunks is loaded in file order.
+     *
+     * @throws IOException if the test file cannot be written.
+     * @throws ArtsException if the tasks cannot be loaded.
+     */
+    @Test
+    public void testLoadKeepsFileOrderAcrossChunks() throws IOException, ArtsException {
+        Path file = Files.createTempFile("arts-loader", ".txt");
+        StringBuilder sb = new StringBuilder("# checkpoint 7\n");
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            sb.append("T | ").append(i % 2).append(" | Task number ").append(i).append("\n");
+        }
+        Files.writeString(file, sb.toString());
+
+        TaskFileLoader loader = new TaskFileLoader(file.toString());
+        ArrayList<Task> tasks = loader.load();
+        Files.delete(file);
+
+        assertEquals(count, tasks.size(), "Every line should be loaded.");
+        assertEquals("# checkpoint 7", loader.getHeader(), "The header line should be reported.");
+        for (int i = 0; i < count; i++) {
+            assertEquals("Task number " + i, tasks.get(i).getDescription(), "Tasks should keep their file order.");
+        }
+    }
+}